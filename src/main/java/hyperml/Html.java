@@ -4,6 +4,7 @@ import java.io.OutputStream;
 import java.io.Writer;
 
 import hyperml.base.HtmlBase;
+import hyperml.base.MarkupSink;
 
 /**
  * HTML Elements and attributes, css.
@@ -24,6 +25,10 @@ public class Html extends HtmlBase<Html> {
 		return new Html(out);
 	}
 
+	public static Html to(MarkupSink sink) {
+		return new Html(sink);
+	}
+
 	public Html() {
 	}
 
@@ -34,4 +39,8 @@ public class Html extends HtmlBase<Html> {
 	public Html(OutputStream out) {
 		super(out);
 	}
+
+	public Html(MarkupSink sink) {
+		super(sink);
+	}
 }
@@ -4,6 +4,7 @@ import java.io.OutputStream;
 import java.io.Writer;
 
 import hyperml.base.XmlBase;
+import hyperml.base.MarkupSink;
 
 /**
  * XML elements/attributes.
@@ -52,6 +53,10 @@ public class Xml extends XmlBase<Xml> {
 		return new Xml(out);
 	}
 
+	public static Xml to(MarkupSink sink) {
+		return new Xml(sink);
+	}
+
 	public Xml() {
 	}
 
@@ -62,4 +67,8 @@ public class Xml extends XmlBase<Xml> {
 	public Xml(OutputStream out) {
 		super(out);
 	}
+
+	public Xml(MarkupSink sink) {
+		super(sink);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package hyperml.base;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+import hyperml.HyperMlException;
+
+/**
+ * Write-combining char buffer in front of a {@link Writer} or
+ * {@link Appendable}.
+ * 
+ * @author krizz
+ */
+final class AppendableSink implements MarkupSink {
+
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final Appendable target;
+	private final char[] buf;
+	private int count;
+
+	AppendableSink(Appendable target) {
+		this(target, DEFAULT_BUFFER_SIZE);
+	}
+
+	AppendableSink(Appendable target, int bufferSize) {
+		this(target, new char[bufferSize]);
+	}
+
+	AppendableSink(Appendable target, char[] buf) {
+		this.target = target;
+		this.buf = buf;
+	}
+
+	@Override
+	public void write(char[] chars, int off, int len) {
+		if (len > buf.length - count) {
+			flushBuffer();
+			if (len > buf.length) {
+				writeThrough(chars, off, len);
+				return;
+			}
+		}
+		System.arraycopy(chars, off, buf, count, len);
+		count += len;
+	}
+
+	@Override
+	public void write(CharSequence s, int off, int len) {
+		if (len > buf.length - count) {
+			flushBuffer();
+			if (len > buf.length) {
+				writeThrough(s, off, len);
+				return;
+			}
+		}
+		if (s instanceof String) {
+			((String) s).getChars(off, off + len, buf, count);
+		} else if (s instanceof StringBuilder) {
+			((StringBuilder) s).getChars(off, off + len, buf, count);
+		} else {
+			for (int i = off, pos = count, end = off + len; i < end; i++) {
+				buf[pos++] = s.charAt(i);
+			}
+		}
+		count += len;
+	}
+
+	@Override
+	public void flush() {
+		flushBuffer();
+		if (target instanceof Flushable) {
+			try {
+				((Flushable) target).flush();
+			} catch (IOException e) {
+				throw HyperMlException.wrap(e);
+			}
+		}
+	}
+
+	private void flushBuffer() {
+		if (count > 0) {
+			writeThrough(buf, 0, count);
+			count = 0;
+		}
+	}
+
+	private void writeThrough(char[] chars, int off, int len) {
+		try {
+			if (target instanceof Writer) {
+				((Writer) target).write(chars, off, len);
+			} else if (target instanceof StringBuilder) {
+				((StringBuilder) target).append(chars, off, len);
+			} else {
+				target.append(CharBuffer.wrap(chars, off, len));
+			}
+		} catch (IOException e) {
+			throw HyperMlException.wrap(e);
+		}
+	}
+
+	private void writeThrough(CharSequence s, int off, int len) {
+		try {
+			if (target instanceof Writer && s instanceof String) {
+				((Writer) target).write((String) s, off, len);
+			} else {
+				target.append(s, off, off + len);
+			}
+		} catch (IOException e) {
+			throw HyperMlException.wrap(e);
+		}
+	}
+
+	/**
+	 * @return the target's string representation, including all buffered output
+	 */
+	@Override
+	public String toString() {
+		flushBuffer();
+		return target.toString();
+	}
+}
@@ -0,0 +1,170 @@
+package hyperml.base;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes the chunks of a render to an asynchronous channel, see
+ * {@link BaseMl#buildAsync(AsynchronousByteChannel)}.
+ * <p>
+ * One write is outstanding at a time, as the channels demand, and at most
+ * {@link #MAX_QUEUED} chunks wait behind it. When the queue is full, the render
+ * waits until a write completes.
+ *
+ * @author krizz
+ */
+final class AsyncOutput extends OutputStream implements CompletionHandler<Integer, Void> {
+
+	/**
+	 * Number of chunks the render may be ahead of the channel, including the one
+	 * being written.
+	 */
+	static final int MAX_QUEUED = 4;
+
+	/**
+	 * Thrown within the render to abort it after the output failed or was
+	 * cancelled.
+	 */
+	static final class Aborted extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		Aborted() {
+			super(null, null, false, false);
+		}
+	}
+
+	private final AsynchronousByteChannel channel;
+	private final AsynchronousFileChannel file;
+	private long position;
+	private final CompletableFuture<Long> result = new CompletableFuture<>();
+	private final ArrayDeque<ByteBuffer> queue = new ArrayDeque<>();
+	private long written;
+	private boolean writing;
+	private boolean closed;
+
+	AsyncOutput(AsynchronousByteChannel channel) {
+		this(channel, null, 0);
+	}
+
+	AsyncOutput(AsynchronousFileChannel file, long position) {
+		this(null, file, position);
+	}
+
+	private AsyncOutput(AsynchronousByteChannel channel, AsynchronousFileChannel file, long position) {
+		this.channel = channel;
+		this.file = file;
+		this.position = position;
+		// wake up a waiting render on cancellation
+		result.whenComplete((r, e) -> {
+			synchronized (this) {
+				notifyAll();
+			}
+		});
+	}
+
+	/**
+	 * @return completes with the number of bytes written
+	 */
+	CompletableFuture<Long> result() {
+		return result;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		if (len == 0) {
+			return;
+		}
+		ByteBuffer chunk = ByteBuffer.wrap(Arrays.copyOfRange(b, off, off + len));
+		synchronized (this) {
+			boolean interrupted = false;
+			while (queue.size() >= MAX_QUEUED && !result.isDone()) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+					result.completeExceptionally(e);
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread()
+						.interrupt();
+			}
+			if (result.isDone()) {
+				throw new Aborted();
+			}
+			queue.add(chunk);
+			if (!writing) {
+				writing = true;
+				writeNext();
+			}
+		}
+	}
+
+	@Override
+	public void write(int b) {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	/**
+	 * Completes the result once all chunks are written.
+	 */
+	@Override
+	public synchronized void close() {
+		closed = true;
+		if (!writing) {
+			result.complete(written);
+		}
+	}
+
+	/**
+	 * Completes the result with the given error, unless it is already completed.
+	 */
+	void fail(Throwable e) {
+		result.completeExceptionally(e);
+	}
+
+	private void writeNext() {
+		ByteBuffer chunk = queue.peek();
+		if (file != null) {
+			file.write(chunk, position, null, this);
+		} else {
+			channel.write(chunk, null, this);
+		}
+	}
+
+	@Override
+	public synchronized void completed(Integer n, Void attachment) {
+		written += n;
+		position += n;
+		if (result.isDone()) {
+			// cancelled
+			writing = false;
+			return;
+		}
+		if (!queue.peek()
+				.hasRemaining()) {
+			queue.poll();
+			notifyAll();
+		}
+		if (queue.isEmpty()) {
+			writing = false;
+			if (closed) {
+				result.complete(written);
+			}
+		} else {
+			writeNext();
+		}
+	}
+
+	@Override
+	public synchronized void failed(Throwable e, Void attachment) {
+		writing = false;
+		result.completeExceptionally(e);
+	}
+}
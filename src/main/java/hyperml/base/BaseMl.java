@@ -2,20 +2,39 @@ package hyperml.base;
 
 import static hyperml.base.Util.escapeHtmlXml;
 import static hyperml.base.Util.flatten;
+import static hyperml.base.Util.visitAll;
+import static hyperml.base.Util.visitParam;
 import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.joining;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.StringWriter;
+import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import hyperml.HyperMlException;
 
@@ -52,15 +71,23 @@ import hyperml.HyperMlException;
 public abstract class BaseMl<T extends BaseMl<?>> {
 
 	public BaseMl() {
-		this(new StringWriter());
+		this(MarkupSink.to(new StringBuilder()));
+		// only seen by toString()
+		context.passThrough = false;
 	}
 
 	public BaseMl(Writer writer) {
-		this.writer = writer;
+		// unbuffered: ad-hoc output goes to the writer right away
+		this(new AppendableSink(writer, 0));
 	}
 
 	public BaseMl(OutputStream out) {
-		this(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		this(MarkupSink.to(out));
+	}
+
+	public BaseMl(MarkupSink sink) {
+		this.context = newContext(sink);
+		context.passThrough = true;
 	}
 
 	/**
@@ -175,15 +202,50 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 	}
 
 	/**
-	 * Stack of element names started so far.
+	 * State of the ad-hoc/fluent mode.
+	 */
+	private final RenderContext context;
+
+	/**
+	 * State of the render or fork running on the current thread.
+	 */
+	private final ThreadLocal<RenderContext> active = new ThreadLocal<>();
+
+	/**
+	 * Returns the state of the current render: the one of the render or fork
+	 * running on this thread, if any, else the document's ad-hoc/fluent state.
+	 * <p>
+	 * Renders keep all of their state there, so that a single document can be
+	 * built by several threads at once.
 	 */
-	protected final LinkedList<Object> stack = new LinkedList<>();
+	RenderContext context() {
+		RenderContext ctx = active.get();
+		return ctx == null ? context : ctx;
+	}
+
+	RenderContext newContext(MarkupSink sink) {
+		return new RenderContext(sink);
+	}
 
-	protected Writer writer;
-	private boolean written;
+	/**
+	 * Returns the pre-encoded fragments for the element and attribute names known
+	 * upfront.
+	 */
+	MarkupTable markupTable() {
+		return MarkupTable.GENERIC;
+	}
 
 	protected abstract boolean isVoidElement(String name);
 
+	/**
+	 * Maybe overridden by subclasses to answer from the element descriptor.
+	 * 
+	 * @return {@link #isVoidElement(String)} by default
+	 */
+	protected boolean isVoidElement(Tag tag) {
+		return isVoidElement(tag.name);
+	}
+
 	protected abstract boolean escapeText();
 
 	protected boolean writeAttribute(@SuppressWarnings("unused") Object value) {
@@ -194,6 +256,77 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 		return true;
 	}
 
+	/**
+	 * Builds the xml by transforming it to the given sink and flushes it.
+	 * <p>
+	 * May be called several times, also concurrently by several threads.
+	 * 
+	 * @param out destination
+	 */
+	public void build(MarkupSink out) {
+		RenderStats stats = new RenderStats();
+		long start = System.nanoTime();
+		render(out, stats);
+		stats.nanos = System.nanoTime() - start;
+		rendered(stats);
+	}
+
+	private void render(MarkupSink out, RenderStats stats) {
+		FlushPolicy policy = flushPolicy();
+		ThresholdSink threshold = policy.every > 0 ? new ThresholdSink(out, policy.every) : null;
+		MarkupSink sink = threshold == null ? out : threshold;
+		Template template = compiled() ? Template.of(getClass()) : null;
+		RenderContext ctx = newContext(template == null ? sink : template.begin(sink));
+		ctx.flushPolicy = policy;
+		ctx.threshold = threshold;
+		ctx.stats = stats;
+		RenderContext prevContext = active.get();
+		active.set(ctx);
+		try {
+			create();
+			closeHead(ctx);
+			ctx.joinForks();
+			checkStack();
+			if (template != null) {
+				template.end(ctx.sink);
+			}
+			sink.flush();
+			stats.flushes++;
+		} finally {
+			restore(prevContext);
+		}
+	}
+
+	/**
+	 * Returns when {@link #build(MarkupSink)} flushes the output.
+	 * <p>
+	 * Maybe overridden by subclasses.
+	 * 
+	 * @return {@link FlushPolicy#DEFAULT} by default
+	 */
+	protected FlushPolicy flushPolicy() {
+		return FlushPolicy.DEFAULT;
+	}
+
+	/**
+	 * Called after each successful build with its statistics.
+	 * <p>
+	 * Maybe overridden by subclasses, for instance to tune the
+	 * {@link #flushPolicy()}.
+	 * 
+	 * @param stats statistics of the build
+	 */
+	protected void rendered(RenderStats stats) {
+	}
+
+	private void restore(RenderContext prevContext) {
+		if (prevContext == null) {
+			active.remove();
+		} else {
+			active.set(prevContext);
+		}
+	}
+
 	/**
 	 * Builds the xml by transforming it to the given writer.
 	 * <p>
@@ -202,13 +335,34 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 	 * @param out destination
 	 */
 	public void build(Writer out) {
-		Writer prevWriter = writer;
+		buildChars(out);
+	}
+
+	/**
+	 * Builds to the given appendable through a buffer of the
+	 * {@link #bufferArena()}.
+	 */
+	void buildChars(Appendable out) {
+		BufferArena arena = bufferArena();
+		char[] buf = arena.chars(AppendableSink.DEFAULT_BUFFER_SIZE);
 		try {
-			writer = out;
-			create();
-			checkStack();
+			build(new AppendableSink(out, buf));
+		} finally {
+			arena.release(buf);
+		}
+	}
+
+	/**
+	 * Builds to the given stream through a UTF-8 buffer of the
+	 * {@link #bufferArena()}.
+	 */
+	void buildUtf8(OutputStream out, int bufferSize) {
+		BufferArena arena = bufferArena();
+		byte[] buf = arena.bytes(bufferSize);
+		try {
+			build(new Utf8Sink(out, buf));
 		} finally {
-			writer = prevWriter;
+			arena.release(buf);
 		}
 	}
 
@@ -221,20 +375,403 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 	 * @param out destination
 	 */
 	public void build(OutputStream out) {
-		build(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		buildUtf8(out, Utf8Sink.DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Builds the xml by writing it to the given channel using UTF-8 encoding.
+	 * <p>
+	 * Output is collected in segments without being copied, large pre-encoded
+	 * fragments are referenced as they are, and the segments are written with one
+	 * gathering write whenever 64K are pending and on every flush. The channel
+	 * must be in blocking mode.
+	 * <p>
+	 * May be called several times.
+	 * 
+	 * @param out destination
+	 */
+	public void build(WritableByteChannel out) {
+		BufferArena arena = bufferArena();
+		ChannelRope rope = new ChannelRope(out, arena);
+		Utf8Sink sink = new Utf8Sink(rope, arena.bytes(ChannelRope.CHUNK_SIZE));
+		try {
+			build(sink);
+		} finally {
+			rope.release(sink.array());
+		}
+	}
+
+	/**
+	 * Builds the xml by writing it to the given file using UTF-8 encoding.
+	 * <p>
+	 * The file is written through a sliding window mapped into memory, which
+	 * grows it in steps of 64M. At the end, it is truncated to the bytes written.
+	 * Meant for very large documents.
+	 * 
+	 * @param out destination, created or replaced
+	 */
+	public void build(Path out) {
+		try (MappedOutput mapped = new MappedOutput(out)) {
+			buildUtf8(mapped, MappedOutput.BUFFER_SIZE);
+		} catch (IOException e) {
+			throw HyperMlException.wrap(e);
+		}
+	}
+
+	/**
+	 * Builds the xml on {@link #renderExecutor()} and writes it to the given
+	 * channel using UTF-8 encoding, without blocking the caller.
+	 * <p>
+	 * A few chunks are queued behind the write in progress at most. When the
+	 * channel does not keep up, the render waits.
+	 * 
+	 * @param out destination
+	 * @return completes with the number of bytes written, cancel to abort
+	 */
+	public CompletableFuture<Long> buildAsync(AsynchronousByteChannel out) {
+		return buildAsync(new AsyncOutput(out));
+	}
+
+	/**
+	 * Builds the xml on {@link #renderExecutor()} and writes it to the given file
+	 * using UTF-8 encoding, without blocking the caller.
+	 * 
+	 * @param out      destination
+	 * @param position file position to start at
+	 * @return completes with the number of bytes written, cancel to abort
+	 * @see #buildAsync(AsynchronousByteChannel)
+	 */
+	public CompletableFuture<Long> buildAsync(AsynchronousFileChannel out, long position) {
+		return buildAsync(new AsyncOutput(out, position));
+	}
+
+	private CompletableFuture<Long> buildAsync(AsyncOutput output) {
+		renderExecutor().execute(() -> {
+			try {
+				buildUtf8(output, Utf8Sink.DEFAULT_BUFFER_SIZE);
+				output.close();
+			} catch (AsyncOutput.Aborted e) {
+				// result already completed
+			} catch (RuntimeException | Error e) {
+				output.fail(e);
+			}
+		});
+		return output.result();
+	}
+
+	/**
+	 * Builds the xml to the given output stream using UTF-8 encoding, compressing
+	 * it on the fly. Each flush of the {@link #flushPolicy()} is a sync flush of
+	 * the compressed stream.
+	 * <p>
+	 * The compression is reported in the {@link RenderStats}.
+	 * <p>
+	 * May be called several times.
+	 * 
+	 * @param out         destination
+	 * @param compression format and level
+	 */
+	public void build(OutputStream out, Compression compression) {
+		RenderStats stats = new RenderStats();
+		long start = System.nanoTime();
+		BufferArena arena = bufferArena();
+		byte[] deflateBuf = arena.bytes(Utf8Sink.DEFAULT_BUFFER_SIZE);
+		byte[] buf = arena.bytes(Utf8Sink.DEFAULT_BUFFER_SIZE);
+		DeflateStream deflate = null;
+		try {
+			deflate = new DeflateStream(out, compression, stats, deflateBuf);
+			render(new Utf8Sink(deflate, buf), stats);
+			deflate.finish();
+		} catch (IOException e) {
+			throw HyperMlException.wrap(e);
+		} finally {
+			if (deflate != null) {
+				deflate.end();
+			}
+			arena.release(buf);
+			arena.release(deflateBuf);
+		}
+		stats.nanos = System.nanoTime() - start;
+		rendered(stats);
+	}
+
+	/**
+	 * Builds the xml to the given output stream using UTF-8 encoding, in two
+	 * stages: the calling thread renders while a thread of
+	 * {@link #renderExecutor()} encodes and writes.
+	 * <p>
+	 * Pays off for large documents with slow destinations.
+	 * 
+	 * @param out destination
+	 * @see PipelineSink
+	 */
+	public void buildPipelined(OutputStream out) {
+		buildPipelined(out, null);
+	}
+
+	/**
+	 * Builds the xml to the given output stream using UTF-8 encoding, in two
+	 * stages: the calling thread renders while a thread of
+	 * {@link #renderExecutor()} encodes, compresses and writes. The render is
+	 * at most a few chunks ahead.
+	 * <p>
+	 * The compression is reported in the {@link RenderStats}.
+	 * 
+	 * @param out         destination
+	 * @param compression format and level, null for none
+	 * @see #build(OutputStream, Compression)
+	 */
+	public void buildPipelined(OutputStream out, Compression compression) {
+		RenderStats stats = new RenderStats();
+		long start = System.nanoTime();
+		PipelineSink pipeline = new PipelineSink(bufferArena());
+		Thread caller = Thread.currentThread();
+		try {
+			renderExecutor().execute(() -> {
+				if (Thread.currentThread() == caller) {
+					// the writer would wait for a render that never starts
+					throw new HyperMlException("buildPipelined() needs a renderExecutor() that runs tasks on another thread");
+				}
+				pipeline.drain(out, compression, stats);
+			});
+		} catch (RuntimeException e) {
+			pipeline.release();
+			throw e;
+		}
+		try {
+			render(pipeline, stats);
+			pipeline.close();
+		} catch (RuntimeException | Error e) {
+			pipeline.abort();
+			throw e;
+		} finally {
+			pipeline.release();
+		}
+		stats.nanos = System.nanoTime() - start;
+		rendered(stats);
+	}
+
+	/**
+	 * Returns a publisher that renders this document for each subscriber, as far
+	 * as the subscriber's demand allows. See {@link MarkupPublisher}.
+	 * 
+	 * @return publisher of UTF-8 encoded chunks
+	 */
+	public MarkupPublisher toPublisher() {
+		return new MarkupPublisher(this, renderExecutor(), Utf8Sink.DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Returns a stream that renders this document as UTF-8 while it is read. The
+	 * render runs on {@link #renderExecutor()}, starts with the first read and
+	 * advances only as far as the stream has been consumed, a few chunks ahead at
+	 * most.
+	 * <p>
+	 * Render errors are thrown as {@link IOException}s by the read methods.
+	 * Closing the stream aborts the render.
+	 * 
+	 * @return stream, to be closed by the caller
+	 */
+	public InputStream toInputStream() {
+		return new RenderPipe(this, renderExecutor()).inputStream();
+	}
+
+	/**
+	 * Returns a reader that renders this document while it is read.
+	 * 
+	 * @return reader, to be closed by the caller
+	 * @see #toInputStream()
+	 */
+	public Reader toReader() {
+		return new RenderPipe(this, renderExecutor()).reader();
+	}
+
+	/**
+	 * Returns the executor that runs renders consumed on another thread, such as
+	 * the ones of {@link #toPublisher()} and {@link #toInputStream()}. Such a
+	 * render waits while its consumer is not ready, occupying a thread of the
+	 * executor. {@link #buildPipelined(OutputStream)} runs its writer on it.
+	 * <p>
+	 * The executor must run tasks on another thread than the one submitting
+	 * them, as each stage waits for the other: an executor running them on the
+	 * calling thread makes {@link #buildPipelined(OutputStream)} fail.
+	 * <p>
+	 * Maybe overridden by subclasses.
+	 * 
+	 * @return a shared pool of daemon threads by default
+	 */
+	protected Executor renderExecutor() {
+		return RenderThreads.EXECUTOR;
+	}
+
+	private static final class RenderThreads {
+		static final Executor EXECUTOR = Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "hyperml-render");
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 
 	@Override
 	public String toString() {
-		if (written) {
-			// fluent mode
+		if (isFluent()) {
+			closeHead(context);
+			context.joinForks();
 			checkStack();
-			return writer.toString();
+			return context.sink.toString();
+		}
+		StringBuilder sb = new StringBuilder(OutputSize.chars(getClass())
+				.expected());
+		appendTo(sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Builds the xml by appending it to the given builder, which is grown once
+	 * to the size recent builds of this class had.
+	 * 
+	 * @param out destination
+	 */
+	public void appendTo(StringBuilder out) {
+		if (isFluent()) {
+			out.append(toString());
+			return;
 		}
-		StringWriter sw = new StringWriter();
-		build(sw);
-		written = false;
-		return sw.toString();
+		OutputSize size = OutputSize.chars(getClass());
+		int start = out.length();
+		out.ensureCapacity(start + size.expected());
+		build(new BuilderSink(out));
+		size.record(out.length() - start);
+	}
+
+	/**
+	 * Builds the xml by appending it to the given appendable.
+	 * 
+	 * @param out destination
+	 */
+	public void appendTo(Appendable out) {
+		if (out instanceof StringBuilder) {
+			appendTo((StringBuilder) out);
+		} else if (isFluent()) {
+			try {
+				out.append(toString());
+			} catch (IOException e) {
+				throw HyperMlException.wrap(e);
+			}
+		} else {
+			buildChars(out);
+		}
+	}
+
+	/**
+	 * Builds the xml to UTF-8 encoded bytes, encoding them right into an array
+	 * sized after the recent builds of this class.
+	 * 
+	 * @return the bytes
+	 */
+	public byte[] toBytes() {
+		if (isFluent()) {
+			return toString().getBytes(StandardCharsets.UTF_8);
+		}
+		OutputSize size = OutputSize.bytes(getClass());
+		Utf8Sink sink = Utf8Sink.growing(size.expected());
+		build(sink);
+		size.record(sink.size());
+		byte[] bytes = sink.array();
+		return bytes.length == sink.size() ? bytes : Arrays.copyOf(bytes, sink.size());
+	}
+
+	/**
+	 * Builds the xml to UTF-8 encoded bytes right into the given array.
+	 * 
+	 * @param out    destination
+	 * @param offset where to start in out
+	 * @return number of bytes written or -1 if they do not fit, in which case the
+	 *         array's content from offset on is undefined
+	 */
+	public int renderInto(byte[] out, int offset) {
+		return renderInto(out, offset, out.length - offset);
+	}
+
+	/**
+	 * Builds the xml to UTF-8 encoded bytes right into the given array range.
+	 * 
+	 * @param out    destination
+	 * @param offset where to start in out
+	 * @param length maximum number of bytes to write
+	 * @return number of bytes written or -1 if they do not fit, in which case the
+	 *         range's content is undefined
+	 */
+	public int renderInto(byte[] out, int offset, int length) {
+		Utf8Sink sink = Utf8Sink.into(out, offset, length);
+		try {
+			if (isFluent()) {
+				byte[] bytes = toBytes();
+				sink.writeBytes(bytes, 0, bytes.length);
+			} else {
+				build(sink);
+			}
+		} catch (Utf8Sink.Overflow e) {
+			return -1;
+		}
+		return sink.size();
+	}
+
+	/**
+	 * Builds the xml to UTF-8 encoded bytes into the given buffer, from its
+	 * position on. Heap buffers are encoded into directly.
+	 * 
+	 * @param out destination
+	 * @return number of bytes written, by which the position has been advanced,
+	 *         or -1 if they do not fit, in which case the position is unchanged
+	 *         and the remaining content undefined
+	 */
+	public int renderInto(ByteBuffer out) {
+		int n;
+		if (out.hasArray()) {
+			n = renderInto(out.array(), out.arrayOffset() + out.position(), out.remaining());
+		} else {
+			ByteBuffer target = out.duplicate();
+			OutputStream stream = new OutputStream() {
+				@Override
+				public void write(byte[] b, int off, int len) {
+					if (len > target.remaining()) {
+						throw new Utf8Sink.Overflow();
+					}
+					target.put(b, off, len);
+				}
+
+				@Override
+				public void write(int b) {
+					write(new byte[] { (byte) b }, 0, 1);
+				}
+			};
+			Utf8Sink sink = new Utf8Sink(stream);
+			try {
+				if (isFluent()) {
+					byte[] bytes = toBytes();
+					sink.writeBytes(bytes, 0, bytes.length);
+					sink.flush();
+				} else {
+					build(sink);
+				}
+				n = target.position() - out.position();
+			} catch (Utf8Sink.Overflow e) {
+				n = -1;
+			}
+		}
+		if (n >= 0) {
+			out.position(out.position() + n);
+		}
+		return n;
+	}
+
+	/**
+	 * @return whether this is an ad-hoc/fluent markup that has been written to
+	 *         and is not being built
+	 */
+	private boolean isFluent() {
+		return context.written && active.get() == null;
 	}
 
 	/**
@@ -243,19 +780,307 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 	protected void create() {
 	}
 
+	/**
+	 * Whether {@link #create()} is rendered through a compiled template, shared by
+	 * all documents of this class.
+	 * <p>
+	 * The first renders are recorded. Once two of them agree on their structure,
+	 * the constant parts are kept as pre-encoded segments and later renders only
+	 * write the values that differed between the recordings, the holes. A render
+	 * whose structure varies, such as a different number of loop iterations,
+	 * silently falls back to normal output.
+	 * <p>
+	 * Maybe overridden by subclasses. Pays off for documents with a stable
+	 * skeleton that are rendered many times.
+	 * 
+	 * @return false by default
+	 */
+	protected boolean compiled() {
+		return false;
+	}
+
 	/**
 	 * Checks that the name stack is empty upon endDocument().
 	 * 
 	 * @throws HyperXmlException if the name stack is not empty
 	 */
 	private void checkStack() {
+		ElementStack stack = context().stack;
 		if (stack.isEmpty()) {
 			return;
 		}
 
-		throw new HyperMlException("Missing end element call $(). Names left on stack: '%s'", stack.stream()
-				.map(Object::toString)
-				.collect(joining(", ")));
+		throw new HyperMlException("Missing end element call $(). Names left on stack: '%s'", stack.names(0));
+	}
+
+	/**
+	 * Returns the cache used by {@link #cache(Object, Duration, Runnable)}.
+	 * <p>
+	 * Maybe overridden by subclasses.
+	 * 
+	 * @return {@link FragmentCache#shared()} by default
+	 */
+	protected FragmentCache fragmentCache() {
+		return FragmentCache.shared();
+	}
+
+	/**
+	 * Returns the pool of the buffers builds encode into.
+	 * <p>
+	 * Maybe overridden by subclasses.
+	 * 
+	 * @return {@link BufferArena#shared()} by default
+	 */
+	protected BufferArena bufferArena() {
+		return BufferArena.shared();
+	}
+
+	/**
+	 * Outputs the fragment cached for the given key. If it is missing or expired,
+	 * renders it by running the given block.
+	 * <p>
+	 * Example:
+	 * 
+	 * <pre>
+	 * cache(Arrays.asList("nav", locale, role), Duration.ofMinutes(5), () -&gt; {
+	 * 	nav();
+	 * 	{
+	 * 		...
+	 * 	}
+	 * 	$();
+	 * });
+	 * </pre>
+	 * 
+	 * The cache is shared across documents, keys should be chosen accordingly.
+	 * The block must end all the elements it starts.
+	 * 
+	 * @param key   cache key
+	 * @param ttl   time to live, null for no expiry
+	 * @param block renders the fragment
+	 */
+	public T cache(Object key, Duration ttl, Runnable block) {
+		return cache(key, ttl, Collections.emptySet(), block);
+	}
+
+	/**
+	 * Outputs the fragment cached for the given key. If it is missing or expired,
+	 * renders it by running the given block.
+	 * 
+	 * @param key   cache key
+	 * @param ttl   time to live, null for no expiry
+	 * @param tags  tags to invalidate the fragment with
+	 *              {@link FragmentCache#invalidateTag(String)}
+	 * @param block renders the fragment
+	 * @see #cache(Object, Duration, Runnable)
+	 */
+	public T cache(Object key, Duration ttl, Set<String> tags, Runnable block) {
+		RenderContext ctx = context();
+		closeHead(ctx);
+		_write(fragmentCache().get(key, ttl, tags, () -> capture(ctx, block)));
+		return _this();
+	}
+
+	/**
+	 * Returns the executor that runs the blocks passed to {@link #fork(Runnable)}.
+	 * <p>
+	 * Maybe overridden by subclasses.
+	 * 
+	 * @return {@link ForkJoinPool#commonPool()} by default
+	 */
+	protected Executor forkExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Renders the given block in parallel to the rest of the document.
+	 * <p>
+	 * The block runs on {@link #forkExecutor()} with an element stack of its own
+	 * and must end all the elements it starts. Its output is spliced in at the
+	 * position of the fork call. Output up to the first fork that has not
+	 * completed yet is passed on right away, the rest is held back.
+	 * <p>
+	 * Example:
+	 * 
+	 * <pre>
+	 * body();
+	 * {
+	 * 	fork(() -&gt; sidebar());
+	 * 	fork(() -&gt; mainList());
+	 * 	footer();
+	 * }
+	 * $();
+	 * </pre>
+	 * 
+	 * The block runs concurrently to the rest of the document, so it must not
+	 * depend on state that the rest of the document modifies.
+	 * 
+	 * @param block renders a subtree
+	 */
+	public T fork(Runnable block) {
+		RenderContext ctx = context();
+		closeHead(ctx);
+		Tag enclosing = ctx.stack.peekTag();
+		ctx.fork(CompletableFuture.supplyAsync(() -> renderFork(block, enclosing), forkExecutor()));
+		return _this();
+	}
+
+	private Markup renderFork(Runnable block, Tag enclosing) {
+		RenderContext ctx = newContext(null);
+		ctx.stack.enclosedBy(enclosing);
+		RenderContext prevContext = active.get();
+		active.set(ctx);
+		try {
+			return capture(ctx, block);
+		} finally {
+			restore(prevContext);
+		}
+	}
+
+	private Markup capture(RenderContext ctx, Runnable block) {
+		return ctx.capture(() -> {
+			block.run();
+			closeHead(ctx);
+		});
+	}
+
+	/**
+	 * Renders the given block for each item. Items are pulled one at a time and
+	 * rendered straight to the output, so the source is never collected.
+	 * <p>
+	 * Example:
+	 * 
+	 * <pre>
+	 * ul();
+	 * {
+	 * 	each(rows, (doc, row) -&gt; doc.li(row.getName(), $));
+	 * }
+	 * $();
+	 * </pre>
+	 * 
+	 * @param items source
+	 * @param block renders an item, gets this document and the item
+	 */
+	public <E> T each(Iterable<? extends E> items, BiConsumer<? super T, ? super E> block) {
+		return each(items.iterator(), 0, block);
+	}
+
+	/**
+	 * Renders the given block for each item, flushing the output every
+	 * <code>flushEvery</code> items.
+	 * 
+	 * @param items      source
+	 * @param flushEvery number of items after which to flush, 0 to never flush
+	 * @param block      renders an item, gets this document and the item
+	 * @see #each(Iterable, BiConsumer)
+	 */
+	public <E> T each(Iterable<? extends E> items, int flushEvery, BiConsumer<? super T, ? super E> block) {
+		return each(items.iterator(), flushEvery, block);
+	}
+
+	/**
+	 * @see #each(Iterable, BiConsumer)
+	 */
+	public <E> T each(Stream<? extends E> items, BiConsumer<? super T, ? super E> block) {
+		return each(items.iterator(), 0, block);
+	}
+
+	/**
+	 * @see #each(Iterable, int, BiConsumer)
+	 */
+	public <E> T each(Stream<? extends E> items, int flushEvery, BiConsumer<? super T, ? super E> block) {
+		return each(items.iterator(), flushEvery, block);
+	}
+
+	/**
+	 * @see #each(Iterable, BiConsumer)
+	 */
+	public <E> T each(Spliterator<? extends E> items, BiConsumer<? super T, ? super E> block) {
+		return each(Spliterators.iterator(items), 0, block);
+	}
+
+	/**
+	 * @see #each(Iterable, int, BiConsumer)
+	 */
+	public <E> T each(Spliterator<? extends E> items, int flushEvery, BiConsumer<? super T, ? super E> block) {
+		return each(Spliterators.iterator(items), flushEvery, block);
+	}
+
+	/**
+	 * @see #each(Iterable, BiConsumer)
+	 */
+	public <E> T each(Iterator<? extends E> items, BiConsumer<? super T, ? super E> block) {
+		return each(items, 0, block);
+	}
+
+	/**
+	 * @see #each(Iterable, int, BiConsumer)
+	 */
+	public <E> T each(Iterator<? extends E> items, int flushEvery, BiConsumer<? super T, ? super E> block) {
+		T self = _this();
+		for (int n = 1; items.hasNext(); n++) {
+			block.accept(self, items.next());
+			if (flushEvery > 0 && n % flushEvery == 0) {
+				flush(context());
+			}
+		}
+		return self;
+	}
+
+	/**
+	 * Renders the given block for each item in parallel: the items are taken in
+	 * chunks of <code>chunkSize</code>, each chunk is rendered by a
+	 * {@link #fork(Runnable)}. The output is in the order of the items.
+	 * <p>
+	 * Items are pulled on the calling thread, only as long as no more than
+	 * {@link #maxPendingChunks()} chunks wait to be written, so memory stays
+	 * bounded.
+	 * 
+	 * @param items     source
+	 * @param chunkSize number of items per fork
+	 * @param block     renders an item, gets this document and the item. Runs
+	 *                  concurrently, see {@link #fork(Runnable)}.
+	 */
+	public <E> T eachParallel(Spliterator<? extends E> items, int chunkSize, BiConsumer<? super T, ? super E> block) {
+		if (chunkSize < 1) {
+			throw new HyperMlException("chunk size must be positive: %s", chunkSize);
+		}
+		T self = _this();
+		int maxPending = maxPendingChunks();
+		List<E> chunk = new ArrayList<>(chunkSize);
+		while (items.tryAdvance(chunk::add)) {
+			if (chunk.size() == chunkSize) {
+				forkChunk(chunk, block, maxPending);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			forkChunk(chunk, block, maxPending);
+		}
+		return self;
+	}
+
+	private <E> void forkChunk(List<E> chunk, BiConsumer<? super T, ? super E> block, int maxPending) {
+		T self = _this();
+		fork(() -> {
+			for (E item : chunk) {
+				block.accept(self, item);
+			}
+		});
+		context().awaitForks(maxPending);
+	}
+
+	/**
+	 * Returns the number of chunks of
+	 * {@link #eachParallel(Spliterator, int, BiConsumer)} that may be pending at
+	 * a time.
+	 * <p>
+	 * Maybe overridden by subclasses.
+	 * 
+	 * @return twice the number of processors by default
+	 */
+	protected int maxPendingChunks() {
+		return 2 * Runtime.getRuntime()
+				.availableProcessors();
 	}
 
 	/**
@@ -290,7 +1115,13 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 				_text(text.toString(), escapeText);
 			}
 		}
-		return hasEnd ? $() : _this();
+		if (hasEnd) {
+			return $();
+		}
+		RenderContext ctx = context();
+		passOn(ctx);
+		flushIfDue(ctx);
+		return _this();
 	}
 
 	/**
@@ -317,8 +1148,223 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 	}
 
 	protected T _$(Object elementName, Object... params) {
-		Object[] flatParams = flatten(params);
 		ParamsHandler<Object> paramsHandler = getParamsHandler();
+		if (paramsHandler != NULL_HANDLER) {
+			return _$(elementName, flatten(params), paramsHandler);
+		}
+
+		ParamStream stream = openElement(elementName);
+		try {
+			visitAll(params, stream);
+			stream.finish();
+		} finally {
+			stream.release();
+		}
+		return endParams(stream);
+	}
+
+	/**
+	 * Starts an element without params, for generated element methods. Same as
+	 * {@link #$(Object, Object...)} without allocating a varargs array.
+	 */
+	protected T element(String name) {
+		if (!plainElements()) {
+			return $(name, NO_PARAMS);
+		}
+		ParamStream stream = openElement(name);
+		try {
+			stream.finish();
+		} finally {
+			stream.release();
+		}
+		return endParams(stream);
+	}
+
+	/**
+	 * @see #element(String)
+	 */
+	protected T element(String name, Object p1, Object p2) {
+		if (!plainElements()) {
+			return $(name, p1, p2);
+		}
+		ParamStream stream = openElement(name);
+		try {
+			visitParam(p1, stream);
+			visitParam(p2, stream);
+			stream.finish();
+		} finally {
+			stream.release();
+		}
+		return endParams(stream);
+	}
+
+	/**
+	 * @see #element(String)
+	 */
+	protected T element(String name, Object p1, Object p2, Object p3, Object p4) {
+		if (!plainElements()) {
+			return $(name, p1, p2, p3, p4);
+		}
+		ParamStream stream = openElement(name);
+		try {
+			visitParam(p1, stream);
+			visitParam(p2, stream);
+			visitParam(p3, stream);
+			visitParam(p4, stream);
+			stream.finish();
+		} finally {
+			stream.release();
+		}
+		return endParams(stream);
+	}
+
+	/**
+	 * @see #element(String)
+	 */
+	protected T element(String name, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+		if (!plainElements()) {
+			return $(name, p1, p2, p3, p4, p5, p6);
+		}
+		ParamStream stream = openElement(name);
+		try {
+			visitParam(p1, stream);
+			visitParam(p2, stream);
+			visitParam(p3, stream);
+			visitParam(p4, stream);
+			visitParam(p5, stream);
+			visitParam(p6, stream);
+			stream.finish();
+		} finally {
+			stream.release();
+		}
+		return endParams(stream);
+	}
+
+	/**
+	 * Whether the fixed arity {@link #element(String)} variants may bypass
+	 * {@link #$(Object, Object...)}: not so if a subclass overrides it or if a
+	 * params handler is in place.
+	 */
+	boolean plainElements() {
+		return getParamsHandler() == NULL_HANDLER && !OVERRIDES_START.get(getClass());
+	}
+
+	private static final ClassValue<Boolean> OVERRIDES_START = overrides("$", Object.class, Object[].class);
+	private static final ClassValue<Boolean> OVERRIDES_START_HEAD = overrides("_startElementHead", String.class);
+	private static final ClassValue<Boolean> OVERRIDES_END = overrides("_endElement", String.class);
+	private static final ClassValue<Boolean> OVERRIDES_WRITE = overrides("_write", String.class);
+
+	/**
+	 * Returns whether a document class overrides the given method outside of this
+	 * package.
+	 */
+	static ClassValue<Boolean> overrides(String name, Class<?>... parameterTypes) {
+		return new ClassValue<Boolean>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				for (Class<?> c = type; c != null && c.getPackage() != BaseMl.class.getPackage(); c = c.getSuperclass()) {
+					try {
+						c.getDeclaredMethod(name, parameterTypes);
+						return true;
+					} catch (NoSuchMethodException e) {
+						// next
+					}
+				}
+				return false;
+			}
+		};
+	}
+
+	private static final Object[] NO_PARAMS = {};
+
+	/**
+	 * Writes the start of the element head and leaves the head open for the
+	 * attributes.
+	 */
+	private ParamStream openElement(Object elementName) {
+		Tag tag = markupTable().tag(elementName.toString());
+		_startElementHead(tag);
+		RenderContext ctx = context();
+		ctx.headOpen = true;
+		return ctx.params.open(this, tag);
+	}
+
+	private T endParams(ParamStream stream) {
+		RenderContext ctx = context();
+		if (ctx.passThrough) {
+			// the caller may look at the output at any time
+			closeHead(ctx);
+		}
+		Tag tag = stream.tag;
+		Object elementValue = stream.value;
+		boolean endElement = stream.end;
+		stream.tag = null;
+		stream.value = null;
+
+		boolean voidElement = isVoidElement(tag);
+		if (endElement && voidElement) {
+			throw new HyperMlException("void elements must not be ended: %s", tag.name);
+		}
+
+		if (!voidElement) {
+			context().stack.push(tag, null);
+
+			if (elementValue != null) {
+				text(elementValue.toString());
+			}
+		}
+
+		if (endElement) {
+			$();
+		} else if (voidElement) {
+			passOn(context());
+		}
+
+		return _this();
+	}
+
+	/**
+	 * Adds an attribute to the element just started, as long as its head is still
+	 * open, that is, nothing else has been written since.
+	 * <p>
+	 * Not available to ad-hoc documents writing to a writer, stream or sink, where
+	 * heads are closed right away.
+	 * <p>
+	 * Example:
+	 * 
+	 * <pre>
+	 * $("a").attribute("href", url).text(label).$();
+	 * </pre>
+	 * 
+	 * @param name  Name of the attribute
+	 * @param value Value of the attribute, not written if null
+	 * @return this
+	 */
+	public T attribute(String name, Object value) {
+		RenderContext ctx = context();
+		if (!ctx.headOpen) {
+			if (ctx.passThrough) {
+				throw new HyperMlException("attribute '%s': attribute setters are not available to ad-hoc documents writing to a writer, stream or sink",
+						name);
+			}
+			throw new HyperMlException("attribute '%s' must directly follow the start of its element", name);
+		}
+		if (value != null) {
+			_attribute(name, value);
+		}
+		return _this();
+	}
+
+	/**
+	 * Writes an attribute streamed by {@link ParamStream}.
+	 */
+	void attributeParam(Object name, Object value) {
+		if (value != null) {
+			_attribute(attrName(name), value);
+		}
+	}
+
+	private T _$(Object elementName, Object[] flatParams, ParamsHandler<Object> paramsHandler) {
 		ParamInfo<?> paramInfo = paramsHandler.init(elementName, flatParams);
 		String name = paramInfo == null ? elementName.toString() : paramInfo.elementName;
 		Object[] theParams = paramInfo == null ? flatParams : paramInfo.params;
@@ -326,11 +1372,12 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 		int nParams = theParams.length;
 		boolean endElement = nParams > 0 && theParams[nParams - 1] == $;
 
-		_startElementHead(name);
+		Tag tag = markupTable().tag(name);
+		_startElementHead(tag);
 
 		String elementValue = null;
 
-		boolean voidElement = isVoidElement(name);
+		boolean voidElement = isVoidElement(tag);
 
 		if (nParams > 0) {
 			if (endElement) {
@@ -374,20 +1421,17 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 		}
 
 		if (!voidElement) {
+			context().stack.push(tag, paramInfo);
 
 			if (elementValue != null) {
 				text(elementValue);
 			}
-
-			stack.add(name);
-
-			if (paramInfo != null) {
-				stack.add(paramInfo);
-			}
 		}
 
 		if (endElement) {
 			$();
+		} else if (voidElement) {
+			passOn(context());
 		}
 
 		return _this();
@@ -408,35 +1452,98 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 	 * Ends the last written element.
 	 */
 	public T $() {
+		RenderContext ctx = context();
+		ElementStack stack = ctx.stack;
 		if (stack.isEmpty()) {
 			throw new HyperMlException("Too many calls to $()");
 		}
-		Object name = stack.removeLast();
-		if (name instanceof ParamInfo) {
-			@SuppressWarnings({ "rawtypes", "unchecked" })
-			ParamInfo<Object> paramInfo = (ParamInfo) name;
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		ParamInfo<Object> paramInfo = (ParamInfo) stack.peekInfo();
+		Tag tag = stack.peekTag();
+		stack.pop();
+		if (paramInfo != null) {
 			paramInfo.handler.end(paramInfo.obj);
-			$(); // end host element
-		} else {
-			_endElement(name.toString());
 		}
+		_endElement(tag);
 
+		FlushPolicy policy = ctx.flushPolicy;
 		if (stack.isEmpty()) {
-			try {
-				writer.flush();
-			} catch (Exception e) {
-				throw HyperMlException.wrap(e);
+			ctx.joinForks();
+			if (policy.endOfTopLevel) {
+				flush(ctx);
+				return _this();
 			}
+		} else if (policy.afterHead && tag.name.equalsIgnoreCase("head")) {
+			flush(ctx);
+			return _this();
 		}
+		flushIfDue(ctx);
 
 		return _this();
 	}
 
+	/**
+	 * Flushes the output if the {@link #flushPolicy()} flushes at explicit
+	 * markers, as the default policy does.
+	 * 
+	 * @return this
+	 */
+	public T flush() {
+		RenderContext ctx = context();
+		if (ctx.flushPolicy.explicit) {
+			flush(ctx);
+		}
+		return _this();
+	}
+
+	/**
+	 * Flushes the output, closing an open element head first: a flush must not
+	 * pass a half-written tag on.
+	 */
+	private void flush(RenderContext ctx) {
+		closeHead(ctx);
+		ctx.flush();
+	}
+
+	/**
+	 * Flushes the output if the {@link FlushPolicy#withEvery(long)} threshold has
+	 * been reached. Called where no tag is half-written.
+	 */
+	private void flushIfDue(RenderContext ctx) {
+		if (ctx.threshold != null && ctx.threshold.due()) {
+			flush(ctx);
+		}
+	}
+
+	/**
+	 * Flushes the output of an ad-hoc/fluent document to the caller's target once
+	 * no element is open, as the end of a top level element does.
+	 */
+	private void passOn(RenderContext ctx) {
+		if (ctx.passThrough && ctx.stack.isEmpty()) {
+			flush(ctx);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private T _this() {
 		return (T) this;
 	}
 
+	protected void _startElementHead(Tag tag) {
+		if (OVERRIDES_START_HEAD.get(getClass())) {
+			_startElementHead(tag.name);
+		} else {
+			_write(tag.start);
+		}
+	}
+
+	/**
+	 * Still called if overridden.
+	 * 
+	 * @deprecated override {@link #_startElementHead(Tag)} instead
+	 */
+	@Deprecated
 	protected void _startElementHead(String name) {
 		_write("<");
 		_write(name);
@@ -446,6 +1553,16 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 		_write(">");
 	}
 
+	/**
+	 * Ends the element head left open by the last element start, if any.
+	 */
+	private void closeHead(RenderContext ctx) {
+		if (ctx.headOpen) {
+			ctx.headOpen = false;
+			_endElementHead();
+		}
+	}
+
 	protected void _attribute(String name, Object valueObj) {
 		if (!writeAttribute(valueObj)) {
 			return;
@@ -454,15 +1571,64 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 		if (value.isEmpty()) {
 			return;
 		}
-		_write(" ");
-		_write(name);
-		if (writeAttributeValue(valueObj)) {
-			_write("=\"");
-			_write(escapeHtmlXml(value));
-			_write("\"");
+		RenderContext ctx = context();
+		if (OVERRIDES_WRITE.get(getClass())) {
+			writeInHead(ctx, " ");
+			writeInHead(ctx, name);
+			if (writeAttributeValue(valueObj)) {
+				writeInHead(ctx, "=\"");
+				writeInHead(ctx, escapeHtmlXml(value));
+				writeInHead(ctx, "\"");
+			}
+			return;
+		}
+		// written as part of the open head
+		MarkupSink sink = ctx.sink;
+		if (!writeAttributeValue(valueObj)) {
+			sink.write(" ");
+			sink.write(name);
+			return;
+		}
+		Markup prefix = markupTable().attribute(name);
+		if (prefix == null) {
+			sink.write(" ");
+			sink.write(name);
+			sink.write("=\"");
+		} else {
+			sink.write(prefix);
+		}
+		sink.writeEscaped(value);
+		sink.write("\"");
+	}
+
+	/**
+	 * Passes part of an attribute on to the overridden {@link #_write(String)},
+	 * which must not close the open head.
+	 */
+	private void writeInHead(RenderContext ctx, String s) {
+		boolean headOpen = ctx.headOpen;
+		ctx.headOpen = false;
+		try {
+			_write(s);
+		} finally {
+			ctx.headOpen = headOpen;
+		}
+	}
+
+	protected void _endElement(Tag tag) {
+		if (OVERRIDES_END.get(getClass())) {
+			_endElement(tag.name);
+		} else {
+			_write(tag.end);
 		}
 	}
 
+	/**
+	 * Still called if overridden.
+	 * 
+	 * @deprecated override {@link #_endElement(Tag)} instead
+	 */
+	@Deprecated
 	protected void _endElement(String name) {
 		_write("</");
 		_write(name);
@@ -473,15 +1639,41 @@ public abstract class BaseMl<T extends BaseMl<?>> {
 		if (text.isEmpty()) {
 			return;
 		}
-		_write(escape ? escapeHtmlXml(text) : text);
+		if (escape && OVERRIDES_WRITE.get(getClass())) {
+			_write(escapeHtmlXml(text));
+		} else if (escape) {
+			RenderContext ctx = context();
+			closeHead(ctx);
+			ctx.written = true;
+			ctx.sink.writeEscaped(text);
+		} else {
+			_write(text);
+		}
 	}
 
-	protected void _write(String s) {
-		try {
-			written = true;
-			writer.write(s);
-		} catch (Exception e) {
-			throw HyperMlException.wrap(e);
+	/**
+	 * Writes a pre-encoded fragment, through {@link #_write(String)} if a
+	 * subclass overrides that.
+	 */
+	protected void _write(Markup markup) {
+		if (OVERRIDES_WRITE.get(getClass())) {
+			_write(markup.text);
+			return;
 		}
+		RenderContext ctx = context();
+		closeHead(ctx);
+		ctx.written = true;
+		ctx.sink.write(markup);
+	}
+
+	/**
+	 * All output goes through here if overridden by a subclass, at the cost of
+	 * the pre-encoded fragments.
+	 */
+	protected void _write(String s) {
+		RenderContext ctx = context();
+		closeHead(ctx);
+		ctx.written = true;
+		ctx.sink.write(s);
 	}
 }
@@ -0,0 +1,199 @@
+package hyperml.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Pool of the buffers the sinks of a build encode into, see
+ * {@link BaseMl#bufferArena()}. Buffers are taken when a build starts and given
+ * back when it completes.
+ * <p>
+ * Buffers come in power-of-two size classes from 1K to 1M. Each class has free
+ * slots striped by thread, which are taken and filled lock-free. Buffers given
+ * back beyond the bound of retained memory, or when all slots are full, are left
+ * to the garbage collector, as are buffers larger than the largest class.
+ * <p>
+ * Thread-safe.
+ *
+ * @author krizz
+ */
+public final class BufferArena {
+
+	static final int MIN_SHIFT = 10;
+	static final int MAX_SHIFT = 20;
+	private static final int CLASSES = MAX_SHIFT - MIN_SHIFT + 1;
+
+	private static final int STRIPES = Integer.highestOneBit(Math.min(Runtime.getRuntime()
+			.availableProcessors(), 32) * 2 - 1);
+
+	/**
+	 * Free slots per stripe and size class.
+	 */
+	private static final int SLOTS = 4;
+
+	// after the above, which it depends on
+	private static final BufferArena SHARED = new BufferArena(16 * 1024 * 1024);
+
+	/**
+	 * @return the arena used by documents unless they override
+	 *         {@link BaseMl#bufferArena()}
+	 */
+	public static BufferArena shared() {
+		return SHARED;
+	}
+
+	private final class Pool<B> {
+		private final AtomicReferenceArray<B> slots = new AtomicReferenceArray<>(CLASSES * STRIPES * SLOTS);
+		private final IntFunction<B> allocate;
+		private final ToIntFunction<B> capacity;
+		private final int bytesPerUnit;
+
+		Pool(IntFunction<B> allocate, ToIntFunction<B> capacity, int bytesPerUnit) {
+			this.allocate = allocate;
+			this.capacity = capacity;
+			this.bytesPerUnit = bytesPerUnit;
+		}
+
+		B take(int minCapacity) {
+			int cls = sizeClass(minCapacity);
+			if (cls < 0) {
+				misses.increment();
+				return allocate.apply(minCapacity);
+			}
+			int stripe = stripe();
+			for (int s = 0; s < STRIPES; s++) {
+				int base = (cls * STRIPES + ((stripe + s) & (STRIPES - 1))) * SLOTS;
+				for (int i = base; i < base + SLOTS; i++) {
+					B buffer = slots.get(i);
+					if (buffer != null && slots.compareAndSet(i, buffer, null)) {
+						retained.addAndGet(-(long) capacity.applyAsInt(buffer) * bytesPerUnit);
+						hits.increment();
+						return buffer;
+					}
+				}
+			}
+			misses.increment();
+			return allocate.apply(1 << (cls + MIN_SHIFT));
+		}
+
+		void giveBack(B buffer) {
+			int size = capacity.applyAsInt(buffer);
+			int cls = sizeClass(size);
+			if (cls < 0 || 1 << (cls + MIN_SHIFT) != size) {
+				// not one of ours
+				return;
+			}
+			long bytes = (long) size * bytesPerUnit;
+			if (retained.addAndGet(bytes) > maxRetainedBytes) {
+				retained.addAndGet(-bytes);
+				dropped.increment();
+				return;
+			}
+			int stripe = stripe();
+			for (int s = 0; s < STRIPES; s++) {
+				int base = (cls * STRIPES + ((stripe + s) & (STRIPES - 1))) * SLOTS;
+				for (int i = base; i < base + SLOTS; i++) {
+					if (slots.get(i) == null && slots.compareAndSet(i, null, buffer)) {
+						return;
+					}
+				}
+			}
+			retained.addAndGet(-bytes);
+			dropped.increment();
+		}
+	}
+
+	private final long maxRetainedBytes;
+	private final AtomicLong retained = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+
+	private final Pool<byte[]> bytes = new Pool<>(byte[]::new, b -> b.length, 1);
+	private final Pool<char[]> chars = new Pool<>(char[]::new, c -> c.length, 2);
+
+	/**
+	 * @param maxRetainedBytes upper bound of the size of the buffers kept for reuse
+	 */
+	public BufferArena(long maxRetainedBytes) {
+		this.maxRetainedBytes = maxRetainedBytes;
+	}
+
+	private static int sizeClass(int size) {
+		int shift = size <= 1 << MIN_SHIFT ? MIN_SHIFT : 32 - Integer.numberOfLeadingZeros(size - 1);
+		return shift > MAX_SHIFT ? -1 : shift - MIN_SHIFT;
+	}
+
+	private static int stripe() {
+		return (int) Thread.currentThread()
+				.getId() & (STRIPES - 1);
+	}
+
+	/**
+	 * @param minLength minimum length
+	 * @return a byte array at least as long, to be given back with
+	 *         {@link #release(byte[])}
+	 */
+	public byte[] bytes(int minLength) {
+		return bytes.take(minLength);
+	}
+
+	/**
+	 * @param minLength minimum length
+	 * @return a char array at least as long, to be given back with
+	 *         {@link #release(char[])}
+	 */
+	public char[] chars(int minLength) {
+		return chars.take(minLength);
+	}
+
+	/**
+	 * Gives back an array that is no longer used.
+	 * 
+	 * @param buffer array
+	 */
+	public void release(byte[] buffer) {
+		bytes.giveBack(buffer);
+	}
+
+	/**
+	 * Gives back an array that is no longer used.
+	 * 
+	 * @param buffer array
+	 */
+	public void release(char[] buffer) {
+		chars.giveBack(buffer);
+	}
+
+	/**
+	 * @return number of requests served with a reused buffer
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of requests that had to allocate
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of buffers given back but not kept, because the bound or all
+	 *         slots were reached
+	 */
+	public long dropped() {
+		return dropped.sum();
+	}
+
+	/**
+	 * @return size of the buffers kept for reuse in bytes
+	 */
+	public long retainedBytes() {
+		return retained.get();
+	}
+}
@@ -0,0 +1,35 @@
+package hyperml.base;
+
+/**
+ * Sink that writes straight into a {@link StringBuilder}, which is a buffer
+ * itself and takes no locks.
+ * 
+ * @author krizz
+ */
+final class BuilderSink implements MarkupSink {
+
+	private final StringBuilder target;
+
+	BuilderSink(StringBuilder target) {
+		this.target = target;
+	}
+
+	@Override
+	public void write(char[] chars, int off, int len) {
+		target.append(chars, off, len);
+	}
+
+	@Override
+	public void write(CharSequence s, int off, int len) {
+		target.append(s, off, off + len);
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public String toString() {
+		return target.toString();
+	}
+}
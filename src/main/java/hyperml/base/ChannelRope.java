@@ -0,0 +1,152 @@
+package hyperml.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import hyperml.HyperMlException;
+
+/**
+ * Segmented output in front of a {@link WritableByteChannel}, see
+ * {@link BaseMl#build(WritableByteChannel)}.
+ * <p>
+ * {@link Utf8Sink} hands over its buffer whenever it is full, rather than
+ * copying it, and gets an empty one from the free list in exchange. Large
+ * {@link Markup} fragments are added as read-only views of their bytes. Once
+ * {@link #MAX_PENDING_BYTES} are pending or on a flush, all segments go out in
+ * one gathering write and their buffers are reused.
+ * {@link #release(byte[])} gives them back to the {@link BufferArena}.
+ *
+ * @author krizz
+ */
+final class ChannelRope extends OutputStream {
+
+	/**
+	 * Size of the buffers handed over by {@link Utf8Sink}.
+	 */
+	static final int CHUNK_SIZE = 8192;
+
+	/**
+	 * Fragments at least this large are referenced rather than copied.
+	 */
+	static final int MIN_SLICE_BYTES = 256;
+
+	static final int MAX_PENDING_BYTES = 64 * 1024;
+
+	private final WritableByteChannel channel;
+	private final BufferArena arena;
+	private final List<ByteBuffer> segments = new ArrayList<>();
+	private final List<byte[]> owned = new ArrayList<>();
+	private final ArrayDeque<byte[]> free = new ArrayDeque<>();
+	private long pending;
+
+	ChannelRope(WritableByteChannel channel, BufferArena arena) {
+		if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+			throw new HyperMlException("Channel must be in blocking mode");
+		}
+		this.channel = channel;
+		this.arena = arena;
+	}
+
+	/**
+	 * Takes over the given buffer.
+	 * 
+	 * @param full buffer
+	 * @param len  number of bytes in full
+	 * @return an empty buffer of the same size
+	 */
+	byte[] swap(byte[] full, int len) throws IOException {
+		owned.add(full);
+		add(ByteBuffer.wrap(full, 0, len));
+		byte[] next = free.poll();
+		return next == null ? arena.bytes(full.length) : next;
+	}
+
+	/**
+	 * Adds a view of the given fragment.
+	 */
+	void add(Markup markup) throws IOException {
+		add(ByteBuffer.wrap(markup.utf8)
+				.asReadOnlyBuffer());
+	}
+
+	private void add(ByteBuffer segment) throws IOException {
+		segments.add(segment);
+		pending += segment.remaining();
+		if (pending >= MAX_PENDING_BYTES) {
+			writeOut();
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > 0) {
+			add(ByteBuffer.wrap(Arrays.copyOfRange(b, off, off + len)));
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writeOut();
+	}
+
+	/**
+	 * Gives all buffers back to the arena, dropping pending segments.
+	 * 
+	 * @param current the buffer of the {@link Utf8Sink}, which may have been
+	 *                handed over already if the build failed
+	 */
+	void release(byte[] current) {
+		if (!owned.contains(current)) {
+			arena.release(current);
+		}
+		for (byte[] buffer : owned) {
+			arena.release(buffer);
+		}
+		for (byte[] buffer : free) {
+			arena.release(buffer);
+		}
+		owned.clear();
+		free.clear();
+		segments.clear();
+	}
+
+	private void writeOut() throws IOException {
+		if (segments.isEmpty()) {
+			return;
+		}
+		ByteBuffer[] buffers = segments.toArray(new ByteBuffer[segments.size()]);
+		if (channel instanceof GatheringByteChannel) {
+			GatheringByteChannel gathering = (GatheringByteChannel) channel;
+			int first = 0;
+			while (first < buffers.length) {
+				gathering.write(buffers, first, buffers.length - first);
+				while (first < buffers.length && !buffers[first].hasRemaining()) {
+					first++;
+				}
+			}
+		} else {
+			for (ByteBuffer buffer : buffers) {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			}
+		}
+		segments.clear();
+		pending = 0;
+		free.addAll(owned);
+		owned.clear();
+	}
+}
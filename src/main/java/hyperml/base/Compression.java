@@ -0,0 +1,96 @@
+package hyperml.base;
+
+import java.util.zip.Deflater;
+
+/**
+ * Compression of the output of {@link BaseMl#build(java.io.OutputStream, Compression)}.
+ * <p>
+ * The output is deflated right where it is encoded. Each flush of the
+ * {@link BaseMl#flushPolicy()} is a sync flush of the compressed stream, so the
+ * client can decode everything up to there.
+ * <p>
+ * With an adaptive level, the level is lowered from one build to the next as
+ * long as compression is slower than a given throughput, such as under CPU
+ * pressure, and raised back up to the configured level when it is fast again.
+ * Such an instance keeps that state and is meant to be shared by all builds.
+ * <p>
+ * Thread-safe.
+ * 
+ * @author krizz
+ */
+public final class Compression {
+
+	/**
+	 * Builds compressing less input are not taken into account by the adaptive
+	 * level.
+	 */
+	private static final long MIN_SAMPLE_BYTES = 16 * 1024;
+
+	/**
+	 * @param level compression level, 0-9
+	 * @return gzip compression, as for <code>Content-Encoding: gzip</code>
+	 */
+	public static Compression gzip(int level) {
+		return new Compression(true, level, 0);
+	}
+
+	/**
+	 * @param level compression level, 0-9
+	 * @return zlib compression, as for <code>Content-Encoding: deflate</code>
+	 */
+	public static Compression deflate(int level) {
+		return new Compression(false, level, 0);
+	}
+
+	final boolean gzip;
+	final int level;
+	final long minBytesPerSecond;
+	private volatile int currentLevel;
+
+	private Compression(boolean gzip, int level, long minBytesPerSecond) {
+		if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+			throw new IllegalArgumentException("invalid level: " + level);
+		}
+		this.gzip = gzip;
+		this.level = level;
+		this.minBytesPerSecond = minBytesPerSecond;
+		this.currentLevel = level;
+	}
+
+	/**
+	 * @param minBytesPerSecond throughput below which to lower the level,
+	 *                          measured in uncompressed bytes
+	 * @return this compression with an adaptive level
+	 */
+	public Compression adaptive(long minBytesPerSecond) {
+		if (minBytesPerSecond <= 0) {
+			throw new IllegalArgumentException("throughput must be positive: " + minBytesPerSecond);
+		}
+		return new Compression(gzip, level, minBytesPerSecond);
+	}
+
+	/**
+	 * @return the level the next build compresses with
+	 */
+	public int currentLevel() {
+		return currentLevel;
+	}
+
+	/**
+	 * Adapts the level to the throughput of a build.
+	 */
+	void record(long bytes, long nanos) {
+		if (minBytesPerSecond == 0 || bytes < MIN_SAMPLE_BYTES || nanos <= 0) {
+			return;
+		}
+		double bytesPerSecond = bytes * 1e9 / nanos;
+		int current = currentLevel;
+		if (bytesPerSecond < minBytesPerSecond) {
+			if (current > Deflater.BEST_SPEED) {
+				currentLevel = current - 1;
+			}
+		} else if (bytesPerSecond > 2.0 * minBytesPerSecond && current < level) {
+			currentLevel = current + 1;
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package hyperml.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+/**
+ * Deflates the bytes encoded by {@link Utf8Sink} straight from its buffer, see
+ * {@link Compression}.
+ * <p>
+ * {@link #flush()} is a sync flush. {@link #finish()} must be called at the end
+ * and {@link #end()} in any case.
+ * <p>
+ * Large {@link Markup} fragments are not compressed again: they are kept as raw
+ * deflate blocks that decode without any preceding data and spliced in after a
+ * full flush. So the cost of compression is that of the dynamic content only.
+ * As a full flush resets the 32K dictionary, only fragments well beyond that
+ * are spliced; for smaller ones the lost matches would cost more than is saved.
+ * The header and checksum are written by this class rather than by the
+ * {@link Deflater}, so that they cover the spliced fragments as well.
+ * 
+ * @author krizz
+ */
+final class DeflateStream extends OutputStream {
+
+	private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+	private final OutputStream out;
+	private final Compression compression;
+	private final RenderStats stats;
+	private final Deflater deflater;
+	/**
+	 * Fragments at least this large are spliced pre-deflated, twice the deflate
+	 * window.
+	 */
+	static final int MIN_SPLICE_BYTES = 64 * 1024;
+
+	private final int level;
+
+	private final Checksum checksum;
+	private final byte[] buf;
+
+	/**
+	 * Whether input was deflated since the last flush.
+	 */
+	private boolean dirty;
+
+	/**
+	 * @param buf buffer for the compressed output
+	 */
+	DeflateStream(OutputStream out, Compression compression, RenderStats stats, byte[] buf) throws IOException {
+		this.buf = buf;
+		this.out = out;
+		this.compression = compression;
+		this.stats = stats;
+		level = compression.currentLevel();
+		deflater = new Deflater(level, true);
+		stats.compressionLevel = level;
+		if (compression.gzip) {
+			checksum = new CRC32();
+			writeOut(GZIP_HEADER, 0, GZIP_HEADER.length);
+		} else {
+			checksum = new Adler32();
+			byte[] header = zlibHeader(level);
+			writeOut(header, 0, header.length);
+		}
+	}
+
+	private static byte[] zlibHeader(int level) {
+		int cmf = 0x78; // deflate, 32K window
+		int flevel = level == Deflater.DEFAULT_COMPRESSION || level == 6 ? 2 : level >= 7 ? 3 : level >= 2 ? 1 : 0;
+		int flg = flevel << 6;
+		flg += 31 - (cmf * 256 + flg) % 31;
+		return new byte[] { (byte) cmf, (byte) flg };
+	}
+
+	/**
+	 * Deflates a fragment into blocks that decode without preceding data and end
+	 * on a byte boundary, without a final block.
+	 */
+	static byte[] deflateFragment(byte[] bytes, int level) {
+		Deflater deflater = new Deflater(level, true);
+		try {
+			deflater.setInput(bytes);
+			byte[] buf = new byte[bytes.length / 2 + 64];
+			int len = 0;
+			for (;;) {
+				len += deflater.deflate(buf, len, buf.length - len, Deflater.SYNC_FLUSH);
+				if (len < buf.length) {
+					return Arrays.copyOf(buf, len);
+				}
+				buf = Arrays.copyOf(buf, buf.length * 2);
+			}
+		} finally {
+			deflater.end();
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return;
+		}
+		long start = System.nanoTime();
+		checksum.update(b, off, len);
+		deflater.setInput(b, off, len);
+		while (!deflater.needsInput()) {
+			int n = deflater.deflate(buf, 0, buf.length, Deflater.NO_FLUSH);
+			writeOut(buf, 0, n);
+		}
+		stats.uncompressedBytes += len;
+		stats.compressionNanos += System.nanoTime() - start;
+		dirty = true;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	/**
+	 * @return whether the given fragment is to be written with
+	 *         {@link #writeDeflated(Markup)}; never without compression
+	 */
+	boolean splices(Markup markup) {
+		return level != Deflater.NO_COMPRESSION && markup.utf8.length >= MIN_SPLICE_BYTES;
+	}
+
+	/**
+	 * Writes the pre-deflated form of the given fragment, deflated at the level
+	 * of this stream.
+	 */
+	void writeDeflated(Markup markup) throws IOException {
+		long start = System.nanoTime();
+		byte[] deflated = markup.deflated(level);
+		// end byte aligned and forget the history: the decoder's history will
+		// contain the fragment, which the deflater does not know about
+		int n;
+		do {
+			n = deflater.deflate(buf, 0, buf.length, Deflater.FULL_FLUSH);
+			writeOut(buf, 0, n);
+		} while (n == buf.length);
+		writeOut(deflated, 0, deflated.length);
+		checksum.update(markup.utf8, 0, markup.utf8.length);
+		stats.uncompressedBytes += markup.utf8.length;
+		stats.splicedBytes += markup.utf8.length;
+		stats.compressionNanos += System.nanoTime() - start;
+		dirty = false;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (dirty) {
+			long start = System.nanoTime();
+			int n;
+			do {
+				n = deflater.deflate(buf, 0, buf.length, Deflater.SYNC_FLUSH);
+				writeOut(buf, 0, n);
+			} while (n == buf.length);
+			stats.compressionNanos += System.nanoTime() - start;
+			dirty = false;
+		}
+		out.flush();
+	}
+
+	/**
+	 * Writes the rest of the compressed stream and flushes.
+	 */
+	void finish() throws IOException {
+		long start = System.nanoTime();
+		deflater.finish();
+		while (!deflater.finished()) {
+			int n = deflater.deflate(buf, 0, buf.length);
+			writeOut(buf, 0, n);
+		}
+		int sum = (int) checksum.getValue();
+		if (compression.gzip) {
+			byte[] trailer = new byte[8];
+			writeIntLE(trailer, 0, sum);
+			writeIntLE(trailer, 4, (int) stats.uncompressedBytes);
+			writeOut(trailer, 0, trailer.length);
+		} else {
+			byte[] trailer = { (byte) (sum >> 24), (byte) (sum >> 16), (byte) (sum >> 8), (byte) sum };
+			writeOut(trailer, 0, trailer.length);
+		}
+		stats.compressionNanos += System.nanoTime() - start;
+		out.flush();
+		compression.record(stats.uncompressedBytes, stats.compressionNanos);
+	}
+
+	/**
+	 * Releases the deflater.
+	 */
+	void end() {
+		deflater.end();
+	}
+
+	private static void writeIntLE(byte[] b, int off, int value) {
+		b[off] = (byte) value;
+		b[off + 1] = (byte) (value >> 8);
+		b[off + 2] = (byte) (value >> 16);
+		b[off + 3] = (byte) (value >> 24);
+	}
+
+	private void writeOut(byte[] b, int off, int len) throws IOException {
+		if (len > 0) {
+			out.write(b, off, len);
+			stats.compressedBytes += len;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package hyperml.base;
+
+import java.util.Arrays;
+
+import hyperml.base.BaseMl.ParamInfo;
+
+/**
+ * Growable, array-based stack of the elements started so far, along with the
+ * handler info of each element, if any.
+ * <p>
+ * Push and pop do not allocate.
+ * 
+ * @author krizz
+ */
+final class ElementStack {
+
+	private Tag[] tags = new Tag[16];
+	private ParamInfo<?>[] infos = new ParamInfo<?>[16];
+	private int size;
+
+	/**
+	 * Innermost element, or the enclosing element if empty.
+	 */
+	private Tag top;
+	private Tag enclosing;
+
+	/**
+	 * Sets the element that encloses the elements of this stack, such as the
+	 * element a forked block is rendered in.
+	 */
+	void enclosedBy(Tag tag) {
+		enclosing = tag;
+		if (size == 0) {
+			top = tag;
+		}
+	}
+
+	void push(Tag tag, ParamInfo<?> info) {
+		if (size == tags.length) {
+			tags = Arrays.copyOf(tags, size * 2);
+			infos = Arrays.copyOf(infos, size * 2);
+		}
+		tags[size] = tag;
+		infos[size] = info;
+		size++;
+		top = tag;
+	}
+
+	/**
+	 * Removes the innermost element.
+	 */
+	void pop() {
+		size--;
+		tags[size] = null;
+		infos[size] = null;
+		top = size == 0 ? enclosing : tags[size - 1];
+	}
+
+	/**
+	 * @return the innermost element, the enclosing element or null if empty
+	 */
+	Tag peekTag() {
+		return top;
+	}
+
+	/**
+	 * @return the handler info of the innermost element, may be null
+	 */
+	ParamInfo<?> peekInfo() {
+		return infos[size - 1];
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return comma separated names of the elements from the given depth on
+	 */
+	String names(int from) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = from; i < size; i++) {
+			if (sb.length() > 0) {
+				sb.append(", ");
+			}
+			sb.append(tags[i].name);
+		}
+		return sb.toString();
+	}
+}
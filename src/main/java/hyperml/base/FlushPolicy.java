@@ -0,0 +1,84 @@
+package hyperml.base;
+
+/**
+ * When a render flushes its output, see {@link BaseMl#flushPolicy()}.
+ * <p>
+ * Flushing passes buffered output on to the client early, improving the time to
+ * first byte, at the cost of smaller writes. The end of a build always
+ * flushes.
+ * <p>
+ * Example:
+ * 
+ * <pre>
+ * FlushPolicy.NEVER.withAfterHead()
+ * 		.withEvery(32 * 1024);
+ * </pre>
+ * <p>
+ * Immutable.
+ * 
+ * @author krizz
+ */
+public final class FlushPolicy {
+
+	/**
+	 * Flushes only at the end of the build.
+	 */
+	public static final FlushPolicy NEVER = new FlushPolicy(false, false, false, 0);
+
+	/**
+	 * Flushes at the end of each top level element and at {@link BaseMl#flush()}.
+	 */
+	public static final FlushPolicy DEFAULT = NEVER.withEndOfTopLevel()
+			.withExplicit();
+
+	final boolean endOfTopLevel;
+	final boolean afterHead;
+	final boolean explicit;
+	final long every;
+
+	private FlushPolicy(boolean endOfTopLevel, boolean afterHead, boolean explicit, long every) {
+		this.endOfTopLevel = endOfTopLevel;
+		this.afterHead = afterHead;
+		this.explicit = explicit;
+		this.every = every;
+	}
+
+	/**
+	 * @return a policy that also flushes at the end of each top level element
+	 */
+	public FlushPolicy withEndOfTopLevel() {
+		return new FlushPolicy(true, afterHead, explicit, every);
+	}
+
+	/**
+	 * @return a policy that also flushes after <code>&lt;/head&gt;</code>, so that
+	 *         the client can start loading styles and scripts while the body is
+	 *         rendered
+	 */
+	public FlushPolicy withAfterHead() {
+		return new FlushPolicy(endOfTopLevel, true, explicit, every);
+	}
+
+	/**
+	 * @return a policy that also flushes at {@link BaseMl#flush()}
+	 */
+	public FlushPolicy withExplicit() {
+		return new FlushPolicy(endOfTopLevel, afterHead, true, every);
+	}
+
+	/**
+	 * The threshold counts chars as written, entities included, before they are
+	 * encoded to bytes. The flush happens at the next end of an element or text,
+	 * so never within a tag.
+	 * 
+	 * @param chars number of chars
+	 * @return a policy that also flushes whenever about the given number of chars
+	 *         has been written since the last flush
+	 */
+	public FlushPolicy withEvery(long chars) {
+		if (chars <= 0) {
+			throw new IllegalArgumentException("chars must be positive: " + chars);
+		}
+		return new FlushPolicy(endOfTopLevel, afterHead, explicit, chars);
+	}
+}
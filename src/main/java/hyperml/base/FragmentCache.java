@@ -0,0 +1,268 @@
+package hyperml.base;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import hyperml.HyperMlException;
+
+/**
+ * Shared cache of rendered fragments, see
+ * {@link BaseMl#cache(Object, Duration, Runnable)}.
+ * <p>
+ * Fragments are stored pre-encoded. The cache is bounded by the size of the
+ * stored fragments: when it is exceeded, the least recently used fragments are
+ * evicted. A key that is missing is rendered only once, concurrent requests for
+ * the same key wait for that render (single-flight).
+ * <p>
+ * Thread-safe.
+ *
+ * @author krizz
+ */
+public class FragmentCache {
+
+	private static final FragmentCache SHARED = new FragmentCache(32 * 1024 * 1024);
+
+	/**
+	 * @return the cache used by documents unless they override
+	 *         {@link BaseMl#fragmentCache()}
+	 */
+	public static FragmentCache shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Approximate per entry overhead in bytes.
+	 */
+	private static final int ENTRY_OVERHEAD = 96;
+
+	private static final class Entry {
+		final CompletableFuture<Markup> value = new CompletableFuture<>();
+		final Thread loader = Thread.currentThread();
+		final Set<String> tags;
+		final long expires;
+		long size;
+		boolean counted;
+		boolean removed;
+		volatile long lastAccess;
+
+		Entry(Duration ttl, Set<String> tags) {
+			this.tags = tags;
+			this.expires = ttl == null ? Long.MAX_VALUE : System.nanoTime() + ttl.toNanos();
+		}
+
+		boolean isExpired(long now) {
+			return expires != Long.MAX_VALUE && now - expires >= 0;
+		}
+	}
+
+	private final long maxBytes;
+	private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong bytes = new AtomicLong();
+	private final AtomicLong clock = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param maxBytes upper bound of the size of all stored fragments
+	 */
+	public FragmentCache(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the fragment for the given key, loading it if it is missing or
+	 * expired.
+	 *
+	 * @param key    cache key
+	 * @param ttl    time to live, null for no expiry
+	 * @param tags   tags for {@link #invalidateTag(String)}
+	 * @param loader renders the fragment
+	 * @return the fragment
+	 */
+	Markup get(Object key, Duration ttl, Set<String> tags, Supplier<Markup> loader) {
+		for (;;) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				Entry loading = new Entry(ttl, tags);
+				if (entries.putIfAbsent(key, loading) == null) {
+					misses.increment();
+					return load(key, loading, loader);
+				}
+				continue;
+			}
+
+			if (entry.isExpired(System.nanoTime())) {
+				remove(key, entry);
+				continue;
+			}
+
+			if (!entry.value.isDone() && entry.loader == Thread.currentThread()) {
+				throw new HyperMlException("Recursive cache() call for key '%s'", key);
+			}
+
+			Markup markup = await(entry);
+			hits.increment();
+			entry.lastAccess = clock.incrementAndGet();
+			return markup;
+		}
+	}
+
+	private Markup load(Object key, Entry entry, Supplier<Markup> loader) {
+		Markup markup;
+		try {
+			markup = loader.get();
+		} catch (RuntimeException | Error e) {
+			entries.remove(key, entry);
+			entry.value.completeExceptionally(e);
+			throw e;
+		}
+		long total = -1;
+		synchronized (entry) {
+			entry.size = markup.utf8.length + 2L * markup.chars.length + ENTRY_OVERHEAD;
+			if (!entry.removed) {
+				entry.counted = true;
+				total = bytes.addAndGet(entry.size);
+			}
+		}
+		entry.lastAccess = clock.incrementAndGet();
+		entry.value.complete(markup);
+		if (total > maxBytes) {
+			evict();
+		}
+		return markup;
+	}
+
+	private static Markup await(Entry entry) {
+		try {
+			return entry.value.get();
+		} catch (ExecutionException e) {
+			throw HyperMlException.wrap(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+			throw HyperMlException.wrap(e);
+		}
+	}
+
+	private void remove(Object key, Entry entry) {
+		if (entries.remove(key, entry)) {
+			synchronized (entry) {
+				entry.removed = true;
+				if (entry.counted) {
+					bytes.addAndGet(-entry.size);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evicts the least recently used fragments until the cache is at 90% of its
+	 * bound.
+	 */
+	private synchronized void evict() {
+		long target = maxBytes - maxBytes / 10;
+		if (bytes.get() <= maxBytes) {
+			return;
+		}
+		long now = System.nanoTime();
+		List<Map.Entry<Object, Entry>> candidates = new ArrayList<>();
+		for (Map.Entry<Object, Entry> it : entries.entrySet()) {
+			Entry entry = it.getValue();
+			if (!entry.value.isDone()) {
+				continue;
+			}
+			if (entry.isExpired(now)) {
+				remove(it.getKey(), entry);
+				evictions.increment();
+			} else {
+				candidates.add(it);
+			}
+		}
+		candidates.sort((a, b) -> Long.compare(a.getValue().lastAccess, b.getValue().lastAccess));
+		for (Map.Entry<Object, Entry> it : candidates) {
+			if (bytes.get() <= target) {
+				break;
+			}
+			remove(it.getKey(), it.getValue());
+			evictions.increment();
+		}
+	}
+
+	/**
+	 * Removes the fragment stored for the given key.
+	 *
+	 * @param key cache key
+	 */
+	public void invalidate(Object key) {
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			remove(key, entry);
+		}
+	}
+
+	/**
+	 * Removes all fragments stored with the given tag.
+	 *
+	 * @param tag tag
+	 */
+	public void invalidateTag(String tag) {
+		entries.forEach((key, entry) -> {
+			if (entry.tags.contains(tag)) {
+				remove(key, entry);
+			}
+		});
+	}
+
+	/**
+	 * Removes all fragments.
+	 */
+	public void invalidateAll() {
+		entries.forEach(this::remove);
+	}
+
+	/**
+	 * @return number of requests served from the cache
+	 */
+	public long hits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return number of requests that had to render
+	 */
+	public long misses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return number of fragments evicted because the cache was full or they
+	 *         expired
+	 */
+	public long evictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * @return approximate size of all stored fragments in bytes
+	 */
+	public long bytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * @return number of stored fragments
+	 */
+	public int size() {
+		return entries.size();
+	}
+}
@@ -33,14 +33,56 @@ public abstract class HtmlBase<T extends HtmlBase<?>> extends HtmlCore<T> {
 		super(out);
 	}
 
+	public HtmlBase(MarkupSink sink) {
+		super(sink);
+	}
+
 	private static final Set<String> VOID_ELEMENTS = new HashSet<>(
 			Arrays.asList("area", "base", "br", "col", "embed", "hr", "img", "input", "keygen", "link", "meta", "param", "source", "track", "wbr"));
 
-	private boolean inCss;
+	private static final Set<String> RAW_TEXT_ELEMENTS = new HashSet<>(Arrays.asList("script", "style"));
+
+	private static final MarkupTable MARKUP = new MarkupTable(ELEMENTS, ATTRIBUTES, VOID_ELEMENTS, RAW_TEXT_ELEMENTS);
+
+	static class HtmlContext extends RenderContext {
+		/**
+		 * Whether within a <code>css()</code> block.
+		 */
+		boolean inCss;
+
+		HtmlContext(MarkupSink sink) {
+			super(sink);
+		}
+	}
+
+	@Override
+	RenderContext newContext(MarkupSink sink) {
+		return new HtmlContext(sink);
+	}
+
+	private HtmlContext htmlContext() {
+		return (HtmlContext) context();
+	}
+
+	@Override
+	MarkupTable markupTable() {
+		return MARKUP;
+	}
 
 	@Override
 	protected boolean isVoidElement(String name) {
-		return VOID_ELEMENTS.contains(name.toLowerCase());
+		return MARKUP.tag(name).voidElement;
+	}
+
+	private static final ClassValue<Boolean> OVERRIDES_VOID = BaseMl.overrides("isVoidElement", String.class);
+
+	/**
+	 * Answers from the element descriptor, unless a subclass overrides
+	 * {@link #isVoidElement(String)}.
+	 */
+	@Override
+	protected boolean isVoidElement(Tag tag) {
+		return OVERRIDES_VOID.get(getClass()) ? isVoidElement(tag.name) : tag.voidElement;
 	}
 
 	@Override
@@ -55,15 +97,12 @@ public abstract class HtmlBase<T extends HtmlBase<?>> extends HtmlCore<T> {
 
 	@Override
 	protected boolean escapeText() {
-		if (inCss) {
+		HtmlContext ctx = htmlContext();
+		if (ctx.inCss) {
 			return false;
 		}
-		Object name = stack.peek();
-		if (name == null) {
-			return true;
-		}
-		String nameString = name.toString();
-		return !nameString.equalsIgnoreCase("script") && !nameString.equalsIgnoreCase("style");
+		Tag tag = ctx.stack.peekTag();
+		return tag == null || !tag.rawText;
 	}
 
 	/**
@@ -74,12 +113,13 @@ public abstract class HtmlBase<T extends HtmlBase<?>> extends HtmlCore<T> {
 	 *                        <code>["color", "red", "display", "none"]</code>
 	 */
 	public T css(String selector, Object... styleValuePairs) {
-		if (inCss) {
+		HtmlContext ctx = htmlContext();
+		if (ctx.inCss) {
 			throw new HyperMlException("Nested css() calls are not allowed");
 		}
 		Object[] pairs = checkPairs(mergeUnits(flatten(styleValuePairs)));
 		if (pairs.length == 0) {
-			inCss = true;
+			ctx.inCss = true;
 			return text(selector, "{");
 		}
 
@@ -99,16 +139,22 @@ public abstract class HtmlBase<T extends HtmlBase<?>> extends HtmlCore<T> {
 
 	@Override
 	public T $() {
-		if (inCss) {
-			inCss = false;
+		HtmlContext ctx = htmlContext();
+		if (ctx.inCss) {
+			ctx.inCss = false;
 			return text("}");
 		}
 		return super.$();
 	}
 
+	@Override
+	boolean plainElements() {
+		return !htmlContext().inCss && super.plainElements();
+	}
+
 	@Override
 	public T $(Object name, Object... params) {
-		if (inCss) {
+		if (htmlContext().inCss) {
 			List<Object> pairs = new ArrayList<>();
 			pairs.add(name);
 			pairs.addAll(asList(flatten(params)));
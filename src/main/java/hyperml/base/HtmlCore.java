@@ -19,6 +19,11 @@ public abstract class HtmlCore<T extends HtmlCore<?>> extends BaseMl<T> {
 	public HtmlCore(OutputStream out) {
 		super(out);
 	}
+
+	public HtmlCore(MarkupSink sink) {
+		super(sink);
+	}
+
 	/**
 	 * The <code>_blank</code> enumeration.
 	 */
@@ -1767,6 +1772,55 @@ public abstract class HtmlCore<T extends HtmlCore<?>> extends BaseMl<T> {
 	 * The <code>z-index</code> css property.
 	 */
 	public static final String zIndex = "z-index";
+	/**
+	 * Names of the generated elements.
+	 */
+	static final String[] ELEMENTS = {
+	  "a", "abbr", "acronym", "address", "area", "article", "aside", "audio", "b", "base",
+	  "bdi", "bdo", "big", "blockquote", "body", "br", "button", "canvas", "caption", "cite",
+	  "code", "col", "colgroup", "command", "datalist", "dd", "del", "details", "dfn",
+	  "div", "dl", "dt", "em", "embed", "fieldset", "figcaption", "figure", "footer", "form",
+	  "h1", "h2", "h3", "h4", "h5", "h6", "head", "header", "hgroup", "hr", "html", "i",
+	  "iframe", "img", "input", "ins", "kbd", "keygen", "label", "legend", "li", "link",
+	  "main", "map", "mark", "menu", "menuitem", "meta", "meter", "nav", "noscript", "object",
+	  "ol", "optgroup", "option", "output", "p", "param", "path", "pre", "progress", "q",
+	  "rp", "rt", "ruby", "s", "samp", "script", "section", "select", "small", "source",
+	  "span", "strong", "style", "sub", "summary", "sup", "svg", "table", "tbody", "td",
+	  "textarea", "tfoot", "th", "thead", "time", "title", "tr", "track", "tt", "u", "ul",
+	  "var", "video", "wbr",
+	};
+	/**
+	 * Names of the generated attributes.
+	 */
+	static final String[] ATTRIBUTES = {
+	  "abbr", "accept", "accept-charset", "accesskey", "action", "align", "alt", "archive",
+	  "async", "autocomplete", "autofocus", "autoplay", "axis", "border", "cellpadding",
+	  "cellspacing", "challenge", "char", "charoff", "charset", "checked", "cite", "class",
+	  "classid", "codebase", "codetype", "cols", "colspan", "content", "contenteditable",
+	  "contextmenu", "controls", "coords", "data", "datetime", "declare", "default", "defer",
+	  "dir", "dirname", "disabled", "draggable", "dropzone", "enctype", "for", "form",
+	  "formaction", "formenctype", "formmethod", "formnovalidate", "formtarget", "frame",
+	  "headers", "height", "hidden", "high", "href", "hreflang", "http-equiv", "icon",
+	  "id", "ismap", "keytype", "kind", "label", "lang", "list", "longdesc", "loop", "low",
+	  "manifest", "max", "maxlength", "media", "mediagroup", "method", "min", "multiple",
+	  "muted", "name", "nohref", "novalidate", "onabort", "onafterprint", "onbeforeprint",
+	  "onbeforeunload", "onblur", "oncanplay", "oncanplaythrough", "onchange", "onclick",
+	  "oncontextmenu", "ondblclick", "ondrag", "ondragend", "ondragenter", "ondragleave",
+	  "ondragover", "ondragstart", "ondrop", "ondurationchange", "onemptied", "onended",
+	  "onerror", "onfocus", "onhashchange", "oninput", "oninvalid", "onkeydown", "onkeypress",
+	  "onkeyup", "onload", "onloadeddata", "onloadedmetadata", "onloadstart", "onmessage",
+	  "onmousedown", "onmousemove", "onmouseout", "onmouseover", "onmouseup", "onmousewheel",
+	  "onoffline", "ononline", "onpause", "onplay", "onplaying", "onpopstate", "onprogress",
+	  "onratechange", "onreadystatechange", "onredo", "onreset", "onresize", "onscroll",
+	  "onseeked", "onseeking", "onselect", "onshow", "onstalled", "onstorage", "onsubmit",
+	  "onsuspend", "ontimeupdate", "onundo", "onunload", "onvolumechange", "onwaiting",
+	  "open", "optimum", "pattern", "placeholder", "poster", "preload", "profile", "radiogroup",
+	  "readonly", "rel", "required", "rev", "reversed", "rows", "rowspan", "rules", "sandbox",
+	  "scheme", "scope", "scoped", "seamless", "selected", "shape", "size", "sizes", "span",
+	  "spellcheck", "src", "srcdoc", "srclang", "standby", "start", "step", "style", "summary",
+	  "tabindex", "target", "title", "type", "usemap", "valign", "value", "valuetype",
+	  "width", "wrap",
+	};
 	/**
 	 * The <code>a</code> element.
 	 * @return this
@@ -1775,801 +1829,5372 @@ public abstract class HtmlCore<T extends HtmlCore<?>> extends BaseMl<T> {
 	  return $("a", params);
 	}
 	/**
-	 * The <code>abbr</code> element.
+	 * The <code>a</code> element, see {@link #a(Object...)}.
 	 * @return this
 	 */
-	public T abbr(Object...params) {
-	  return $("abbr", params);
+	public T a() {
+	  return element("a");
 	}
 	/**
-	 * The <code>acronym</code> element.
+	 * The <code>a</code> element, see {@link #a(Object...)}.
 	 * @return this
 	 */
-	public T acronym(Object...params) {
-	  return $("acronym", params);
+	public T a(Object p1, Object p2) {
+	  return element("a", p1, p2);
 	}
 	/**
-	 * The <code>address</code> element.
+	 * The <code>a</code> element, see {@link #a(Object...)}.
 	 * @return this
 	 */
-	public T address(Object...params) {
-	  return $("address", params);
+	public T a(Object p1, Object p2, Object p3, Object p4) {
+	  return element("a", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>area</code> element.
+	 * The <code>a</code> element, see {@link #a(Object...)}.
 	 * @return this
 	 */
-	public T area(Object...params) {
-	  return $("area", params);
+	public T a(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("a", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>article</code> element.
+	 * The <code>abbr</code> element.
 	 * @return this
 	 */
-	public T article(Object...params) {
-	  return $("article", params);
+	public T abbr(Object...params) {
+	  return $("abbr", params);
 	}
 	/**
-	 * The <code>aside</code> element.
+	 * The <code>abbr</code> element, see {@link #abbr(Object...)}.
 	 * @return this
 	 */
-	public T aside(Object...params) {
-	  return $("aside", params);
+	public T abbr() {
+	  return element("abbr");
 	}
 	/**
-	 * The <code>audio</code> element.
+	 * The <code>abbr</code> element, see {@link #abbr(Object...)}.
 	 * @return this
 	 */
-	public T audio(Object...params) {
-	  return $("audio", params);
+	public T abbr(Object p1, Object p2) {
+	  return element("abbr", p1, p2);
 	}
 	/**
-	 * The <code>b</code> element.
+	 * The <code>abbr</code> element, see {@link #abbr(Object...)}.
 	 * @return this
 	 */
-	public T b(Object...params) {
-	  return $("b", params);
+	public T abbr(Object p1, Object p2, Object p3, Object p4) {
+	  return element("abbr", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>base</code> element.
+	 * The <code>abbr</code> element, see {@link #abbr(Object...)}.
 	 * @return this
 	 */
-	public T base(Object...params) {
-	  return $("base", params);
+	public T abbr(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("abbr", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>bdi</code> element.
+	 * The <code>acronym</code> element.
 	 * @return this
 	 */
-	public T bdi(Object...params) {
-	  return $("bdi", params);
+	public T acronym(Object...params) {
+	  return $("acronym", params);
 	}
 	/**
-	 * The <code>bdo</code> element.
+	 * The <code>acronym</code> element, see {@link #acronym(Object...)}.
 	 * @return this
 	 */
-	public T bdo(Object...params) {
-	  return $("bdo", params);
+	public T acronym() {
+	  return element("acronym");
 	}
 	/**
-	 * The <code>big</code> element.
+	 * The <code>acronym</code> element, see {@link #acronym(Object...)}.
 	 * @return this
 	 */
-	public T big(Object...params) {
-	  return $("big", params);
+	public T acronym(Object p1, Object p2) {
+	  return element("acronym", p1, p2);
 	}
 	/**
-	 * The <code>blockquote</code> element.
+	 * The <code>acronym</code> element, see {@link #acronym(Object...)}.
 	 * @return this
 	 */
-	public T blockquote(Object...params) {
-	  return $("blockquote", params);
+	public T acronym(Object p1, Object p2, Object p3, Object p4) {
+	  return element("acronym", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>body</code> element.
+	 * The <code>acronym</code> element, see {@link #acronym(Object...)}.
 	 * @return this
 	 */
-	public T body(Object...params) {
-	  return $("body", params);
+	public T acronym(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("acronym", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>br</code> element.
+	 * The <code>address</code> element.
 	 * @return this
 	 */
-	public T br(Object...params) {
-	  return $("br", params);
+	public T address(Object...params) {
+	  return $("address", params);
 	}
 	/**
-	 * The <code>button</code> element.
+	 * The <code>address</code> element, see {@link #address(Object...)}.
 	 * @return this
 	 */
-	public T button(Object...params) {
-	  return $("button", params);
+	public T address() {
+	  return element("address");
 	}
 	/**
-	 * The <code>canvas</code> element.
+	 * The <code>address</code> element, see {@link #address(Object...)}.
 	 * @return this
 	 */
-	public T canvas(Object...params) {
-	  return $("canvas", params);
+	public T address(Object p1, Object p2) {
+	  return element("address", p1, p2);
 	}
 	/**
-	 * The <code>caption</code> element.
+	 * The <code>address</code> element, see {@link #address(Object...)}.
 	 * @return this
 	 */
-	public T caption(Object...params) {
-	  return $("caption", params);
+	public T address(Object p1, Object p2, Object p3, Object p4) {
+	  return element("address", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>cite</code> element.
+	 * The <code>address</code> element, see {@link #address(Object...)}.
 	 * @return this
 	 */
-	public T cite(Object...params) {
-	  return $("cite", params);
+	public T address(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("address", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>code</code> element.
+	 * The <code>area</code> element.
 	 * @return this
 	 */
-	public T code(Object...params) {
-	  return $("code", params);
+	public T area(Object...params) {
+	  return $("area", params);
 	}
 	/**
-	 * The <code>col</code> element.
+	 * The <code>area</code> element, see {@link #area(Object...)}.
 	 * @return this
 	 */
-	public T col(Object...params) {
-	  return $("col", params);
+	public T area() {
+	  return element("area");
 	}
 	/**
-	 * The <code>colgroup</code> element.
+	 * The <code>area</code> element, see {@link #area(Object...)}.
 	 * @return this
 	 */
-	public T colgroup(Object...params) {
-	  return $("colgroup", params);
+	public T area(Object p1, Object p2) {
+	  return element("area", p1, p2);
 	}
 	/**
-	 * The <code>command</code> element.
+	 * The <code>area</code> element, see {@link #area(Object...)}.
 	 * @return this
 	 */
-	public T command(Object...params) {
-	  return $("command", params);
+	public T area(Object p1, Object p2, Object p3, Object p4) {
+	  return element("area", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>datalist</code> element.
+	 * The <code>area</code> element, see {@link #area(Object...)}.
 	 * @return this
 	 */
-	public T datalist(Object...params) {
-	  return $("datalist", params);
+	public T area(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("area", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>dd</code> element.
+	 * The <code>article</code> element.
 	 * @return this
 	 */
-	public T dd(Object...params) {
-	  return $("dd", params);
+	public T article(Object...params) {
+	  return $("article", params);
 	}
 	/**
-	 * The <code>del</code> element.
+	 * The <code>article</code> element, see {@link #article(Object...)}.
 	 * @return this
 	 */
-	public T del(Object...params) {
-	  return $("del", params);
+	public T article() {
+	  return element("article");
 	}
 	/**
-	 * The <code>details</code> element.
+	 * The <code>article</code> element, see {@link #article(Object...)}.
 	 * @return this
 	 */
-	public T details(Object...params) {
-	  return $("details", params);
+	public T article(Object p1, Object p2) {
+	  return element("article", p1, p2);
 	}
 	/**
-	 * The <code>dfn</code> element.
+	 * The <code>article</code> element, see {@link #article(Object...)}.
 	 * @return this
 	 */
-	public T dfn(Object...params) {
-	  return $("dfn", params);
+	public T article(Object p1, Object p2, Object p3, Object p4) {
+	  return element("article", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>div</code> element.
+	 * The <code>article</code> element, see {@link #article(Object...)}.
 	 * @return this
 	 */
-	public T div(Object...params) {
-	  return $("div", params);
+	public T article(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("article", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>dl</code> element.
+	 * The <code>aside</code> element.
 	 * @return this
 	 */
-	public T dl(Object...params) {
-	  return $("dl", params);
+	public T aside(Object...params) {
+	  return $("aside", params);
 	}
 	/**
-	 * The <code>dt</code> element.
+	 * The <code>aside</code> element, see {@link #aside(Object...)}.
 	 * @return this
 	 */
-	public T dt(Object...params) {
-	  return $("dt", params);
+	public T aside() {
+	  return element("aside");
 	}
 	/**
-	 * The <code>em</code> element.
+	 * The <code>aside</code> element, see {@link #aside(Object...)}.
 	 * @return this
 	 */
-	public T em(Object...params) {
-	  return $("em", params);
+	public T aside(Object p1, Object p2) {
+	  return element("aside", p1, p2);
 	}
 	/**
-	 * The <code>embed</code> element.
+	 * The <code>aside</code> element, see {@link #aside(Object...)}.
 	 * @return this
 	 */
-	public T embed(Object...params) {
-	  return $("embed", params);
+	public T aside(Object p1, Object p2, Object p3, Object p4) {
+	  return element("aside", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>fieldset</code> element.
+	 * The <code>aside</code> element, see {@link #aside(Object...)}.
 	 * @return this
 	 */
-	public T fieldset(Object...params) {
-	  return $("fieldset", params);
+	public T aside(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("aside", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>figcaption</code> element.
+	 * The <code>audio</code> element.
 	 * @return this
 	 */
-	public T figcaption(Object...params) {
-	  return $("figcaption", params);
+	public T audio(Object...params) {
+	  return $("audio", params);
 	}
 	/**
-	 * The <code>figure</code> element.
+	 * The <code>audio</code> element, see {@link #audio(Object...)}.
 	 * @return this
 	 */
-	public T figure(Object...params) {
-	  return $("figure", params);
+	public T audio() {
+	  return element("audio");
 	}
 	/**
-	 * The <code>footer</code> element.
+	 * The <code>audio</code> element, see {@link #audio(Object...)}.
 	 * @return this
 	 */
-	public T footer(Object...params) {
-	  return $("footer", params);
+	public T audio(Object p1, Object p2) {
+	  return element("audio", p1, p2);
 	}
 	/**
-	 * The <code>form</code> element.
+	 * The <code>audio</code> element, see {@link #audio(Object...)}.
 	 * @return this
 	 */
-	public T form(Object...params) {
-	  return $("form", params);
+	public T audio(Object p1, Object p2, Object p3, Object p4) {
+	  return element("audio", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>h1</code> element.
+	 * The <code>audio</code> element, see {@link #audio(Object...)}.
 	 * @return this
 	 */
-	public T h1(Object...params) {
-	  return $("h1", params);
+	public T audio(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("audio", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>h2</code> element.
+	 * The <code>b</code> element.
 	 * @return this
 	 */
-	public T h2(Object...params) {
-	  return $("h2", params);
+	public T b(Object...params) {
+	  return $("b", params);
 	}
 	/**
-	 * The <code>h3</code> element.
+	 * The <code>b</code> element, see {@link #b(Object...)}.
 	 * @return this
 	 */
-	public T h3(Object...params) {
-	  return $("h3", params);
+	public T b() {
+	  return element("b");
 	}
 	/**
-	 * The <code>h4</code> element.
+	 * The <code>b</code> element, see {@link #b(Object...)}.
 	 * @return this
 	 */
-	public T h4(Object...params) {
-	  return $("h4", params);
+	public T b(Object p1, Object p2) {
+	  return element("b", p1, p2);
 	}
 	/**
-	 * The <code>h5</code> element.
+	 * The <code>b</code> element, see {@link #b(Object...)}.
 	 * @return this
 	 */
-	public T h5(Object...params) {
-	  return $("h5", params);
+	public T b(Object p1, Object p2, Object p3, Object p4) {
+	  return element("b", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>h6</code> element.
+	 * The <code>b</code> element, see {@link #b(Object...)}.
 	 * @return this
 	 */
-	public T h6(Object...params) {
-	  return $("h6", params);
+	public T b(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("b", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>head</code> element.
+	 * The <code>base</code> element.
 	 * @return this
 	 */
-	public T head(Object...params) {
-	  return $("head", params);
+	public T base(Object...params) {
+	  return $("base", params);
 	}
 	/**
-	 * The <code>header</code> element.
+	 * The <code>base</code> element, see {@link #base(Object...)}.
 	 * @return this
 	 */
-	public T header(Object...params) {
-	  return $("header", params);
+	public T base() {
+	  return element("base");
 	}
 	/**
-	 * The <code>hgroup</code> element.
+	 * The <code>base</code> element, see {@link #base(Object...)}.
 	 * @return this
 	 */
-	public T hgroup(Object...params) {
-	  return $("hgroup", params);
+	public T base(Object p1, Object p2) {
+	  return element("base", p1, p2);
 	}
 	/**
-	 * The <code>hr</code> element.
+	 * The <code>base</code> element, see {@link #base(Object...)}.
 	 * @return this
 	 */
-	public T hr(Object...params) {
-	  return $("hr", params);
+	public T base(Object p1, Object p2, Object p3, Object p4) {
+	  return element("base", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>html</code> element.
+	 * The <code>base</code> element, see {@link #base(Object...)}.
 	 * @return this
 	 */
-	public T html(Object...params) {
-	  return $("html", params);
+	public T base(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("base", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>i</code> element.
+	 * The <code>bdi</code> element.
 	 * @return this
 	 */
-	public T i(Object...params) {
-	  return $("i", params);
+	public T bdi(Object...params) {
+	  return $("bdi", params);
 	}
 	/**
-	 * The <code>iframe</code> element.
+	 * The <code>bdi</code> element, see {@link #bdi(Object...)}.
 	 * @return this
 	 */
-	public T iframe(Object...params) {
-	  return $("iframe", params);
+	public T bdi() {
+	  return element("bdi");
 	}
 	/**
-	 * The <code>img</code> element.
+	 * The <code>bdi</code> element, see {@link #bdi(Object...)}.
 	 * @return this
 	 */
-	public T img(Object...params) {
-	  return $("img", params);
+	public T bdi(Object p1, Object p2) {
+	  return element("bdi", p1, p2);
 	}
 	/**
-	 * The <code>input</code> element.
+	 * The <code>bdi</code> element, see {@link #bdi(Object...)}.
 	 * @return this
 	 */
-	public T input(Object...params) {
-	  return $("input", params);
+	public T bdi(Object p1, Object p2, Object p3, Object p4) {
+	  return element("bdi", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>ins</code> element.
+	 * The <code>bdi</code> element, see {@link #bdi(Object...)}.
 	 * @return this
 	 */
-	public T ins(Object...params) {
-	  return $("ins", params);
+	public T bdi(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("bdi", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>kbd</code> element.
+	 * The <code>bdo</code> element.
 	 * @return this
 	 */
-	public T kbd(Object...params) {
-	  return $("kbd", params);
+	public T bdo(Object...params) {
+	  return $("bdo", params);
 	}
 	/**
-	 * The <code>keygen</code> element.
+	 * The <code>bdo</code> element, see {@link #bdo(Object...)}.
 	 * @return this
 	 */
-	public T keygen(Object...params) {
-	  return $("keygen", params);
+	public T bdo() {
+	  return element("bdo");
 	}
 	/**
-	 * The <code>label</code> element.
+	 * The <code>bdo</code> element, see {@link #bdo(Object...)}.
 	 * @return this
 	 */
-	public T label(Object...params) {
-	  return $("label", params);
+	public T bdo(Object p1, Object p2) {
+	  return element("bdo", p1, p2);
 	}
 	/**
-	 * The <code>legend</code> element.
+	 * The <code>bdo</code> element, see {@link #bdo(Object...)}.
 	 * @return this
 	 */
-	public T legend(Object...params) {
-	  return $("legend", params);
+	public T bdo(Object p1, Object p2, Object p3, Object p4) {
+	  return element("bdo", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>li</code> element.
+	 * The <code>bdo</code> element, see {@link #bdo(Object...)}.
 	 * @return this
 	 */
-	public T li(Object...params) {
-	  return $("li", params);
+	public T bdo(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("bdo", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>link</code> element.
+	 * The <code>big</code> element.
 	 * @return this
 	 */
-	public T link(Object...params) {
-	  return $("link", params);
+	public T big(Object...params) {
+	  return $("big", params);
 	}
 	/**
-	 * The <code>main</code> element.
+	 * The <code>big</code> element, see {@link #big(Object...)}.
 	 * @return this
 	 */
-	public T main(Object...params) {
-	  return $("main", params);
+	public T big() {
+	  return element("big");
 	}
 	/**
-	 * The <code>map</code> element.
+	 * The <code>big</code> element, see {@link #big(Object...)}.
 	 * @return this
 	 */
-	public T mapp(Object...params) {
-	  return $("map", params);
+	public T big(Object p1, Object p2) {
+	  return element("big", p1, p2);
 	}
 	/**
-	 * The <code>mark</code> element.
+	 * The <code>big</code> element, see {@link #big(Object...)}.
 	 * @return this
 	 */
-	public T mark(Object...params) {
-	  return $("mark", params);
+	public T big(Object p1, Object p2, Object p3, Object p4) {
+	  return element("big", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>menu</code> element.
+	 * The <code>big</code> element, see {@link #big(Object...)}.
 	 * @return this
 	 */
-	public T menu(Object...params) {
-	  return $("menu", params);
+	public T big(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("big", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>menuitem</code> element.
+	 * The <code>blockquote</code> element.
 	 * @return this
 	 */
-	public T menuitem(Object...params) {
-	  return $("menuitem", params);
+	public T blockquote(Object...params) {
+	  return $("blockquote", params);
 	}
 	/**
-	 * The <code>meta</code> element.
+	 * The <code>blockquote</code> element, see {@link #blockquote(Object...)}.
 	 * @return this
 	 */
-	public T meta(Object...params) {
-	  return $("meta", params);
+	public T blockquote() {
+	  return element("blockquote");
 	}
 	/**
-	 * The <code>meter</code> element.
+	 * The <code>blockquote</code> element, see {@link #blockquote(Object...)}.
 	 * @return this
 	 */
-	public T meter(Object...params) {
-	  return $("meter", params);
+	public T blockquote(Object p1, Object p2) {
+	  return element("blockquote", p1, p2);
 	}
 	/**
-	 * The <code>nav</code> element.
+	 * The <code>blockquote</code> element, see {@link #blockquote(Object...)}.
 	 * @return this
 	 */
-	public T nav(Object...params) {
-	  return $("nav", params);
+	public T blockquote(Object p1, Object p2, Object p3, Object p4) {
+	  return element("blockquote", p1, p2, p3, p4);
 	}
 	/**
-	 * The <code>noscript</code> element.
+	 * The <code>blockquote</code> element, see {@link #blockquote(Object...)}.
 	 * @return this
 	 */
-	public T noscript(Object...params) {
-	  return $("noscript", params);
+	public T blockquote(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("blockquote", p1, p2, p3, p4, p5, p6);
 	}
 	/**
-	 * The <code>object</code> element.
+	 * The <code>body</code> element.
 	 * @return this
 	 */
-	public T object(Object...params) {
-	  return $("object", params);
+	public T body(Object...params) {
+	  return $("body", params);
+	}
+	/**
+	 * The <code>body</code> element, see {@link #body(Object...)}.
+	 * @return this
+	 */
+	public T body() {
+	  return element("body");
+	}
+	/**
+	 * The <code>body</code> element, see {@link #body(Object...)}.
+	 * @return this
+	 */
+	public T body(Object p1, Object p2) {
+	  return element("body", p1, p2);
+	}
+	/**
+	 * The <code>body</code> element, see {@link #body(Object...)}.
+	 * @return this
+	 */
+	public T body(Object p1, Object p2, Object p3, Object p4) {
+	  return element("body", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>body</code> element, see {@link #body(Object...)}.
+	 * @return this
+	 */
+	public T body(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("body", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>br</code> element.
+	 * @return this
+	 */
+	public T br(Object...params) {
+	  return $("br", params);
+	}
+	/**
+	 * The <code>br</code> element, see {@link #br(Object...)}.
+	 * @return this
+	 */
+	public T br() {
+	  return element("br");
+	}
+	/**
+	 * The <code>br</code> element, see {@link #br(Object...)}.
+	 * @return this
+	 */
+	public T br(Object p1, Object p2) {
+	  return element("br", p1, p2);
+	}
+	/**
+	 * The <code>br</code> element, see {@link #br(Object...)}.
+	 * @return this
+	 */
+	public T br(Object p1, Object p2, Object p3, Object p4) {
+	  return element("br", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>br</code> element, see {@link #br(Object...)}.
+	 * @return this
+	 */
+	public T br(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("br", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>button</code> element.
+	 * @return this
+	 */
+	public T button(Object...params) {
+	  return $("button", params);
+	}
+	/**
+	 * The <code>button</code> element, see {@link #button(Object...)}.
+	 * @return this
+	 */
+	public T button() {
+	  return element("button");
+	}
+	/**
+	 * The <code>button</code> element, see {@link #button(Object...)}.
+	 * @return this
+	 */
+	public T button(Object p1, Object p2) {
+	  return element("button", p1, p2);
+	}
+	/**
+	 * The <code>button</code> element, see {@link #button(Object...)}.
+	 * @return this
+	 */
+	public T button(Object p1, Object p2, Object p3, Object p4) {
+	  return element("button", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>button</code> element, see {@link #button(Object...)}.
+	 * @return this
+	 */
+	public T button(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("button", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>canvas</code> element.
+	 * @return this
+	 */
+	public T canvas(Object...params) {
+	  return $("canvas", params);
+	}
+	/**
+	 * The <code>canvas</code> element, see {@link #canvas(Object...)}.
+	 * @return this
+	 */
+	public T canvas() {
+	  return element("canvas");
+	}
+	/**
+	 * The <code>canvas</code> element, see {@link #canvas(Object...)}.
+	 * @return this
+	 */
+	public T canvas(Object p1, Object p2) {
+	  return element("canvas", p1, p2);
+	}
+	/**
+	 * The <code>canvas</code> element, see {@link #canvas(Object...)}.
+	 * @return this
+	 */
+	public T canvas(Object p1, Object p2, Object p3, Object p4) {
+	  return element("canvas", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>canvas</code> element, see {@link #canvas(Object...)}.
+	 * @return this
+	 */
+	public T canvas(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("canvas", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>caption</code> element.
+	 * @return this
+	 */
+	public T caption(Object...params) {
+	  return $("caption", params);
+	}
+	/**
+	 * The <code>caption</code> element, see {@link #caption(Object...)}.
+	 * @return this
+	 */
+	public T caption() {
+	  return element("caption");
+	}
+	/**
+	 * The <code>caption</code> element, see {@link #caption(Object...)}.
+	 * @return this
+	 */
+	public T caption(Object p1, Object p2) {
+	  return element("caption", p1, p2);
+	}
+	/**
+	 * The <code>caption</code> element, see {@link #caption(Object...)}.
+	 * @return this
+	 */
+	public T caption(Object p1, Object p2, Object p3, Object p4) {
+	  return element("caption", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>caption</code> element, see {@link #caption(Object...)}.
+	 * @return this
+	 */
+	public T caption(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("caption", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>cite</code> element.
+	 * @return this
+	 */
+	public T cite(Object...params) {
+	  return $("cite", params);
+	}
+	/**
+	 * The <code>cite</code> element, see {@link #cite(Object...)}.
+	 * @return this
+	 */
+	public T cite() {
+	  return element("cite");
+	}
+	/**
+	 * The <code>cite</code> element, see {@link #cite(Object...)}.
+	 * @return this
+	 */
+	public T cite(Object p1, Object p2) {
+	  return element("cite", p1, p2);
+	}
+	/**
+	 * The <code>cite</code> element, see {@link #cite(Object...)}.
+	 * @return this
+	 */
+	public T cite(Object p1, Object p2, Object p3, Object p4) {
+	  return element("cite", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>cite</code> element, see {@link #cite(Object...)}.
+	 * @return this
+	 */
+	public T cite(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("cite", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>code</code> element.
+	 * @return this
+	 */
+	public T code(Object...params) {
+	  return $("code", params);
+	}
+	/**
+	 * The <code>code</code> element, see {@link #code(Object...)}.
+	 * @return this
+	 */
+	public T code() {
+	  return element("code");
+	}
+	/**
+	 * The <code>code</code> element, see {@link #code(Object...)}.
+	 * @return this
+	 */
+	public T code(Object p1, Object p2) {
+	  return element("code", p1, p2);
+	}
+	/**
+	 * The <code>code</code> element, see {@link #code(Object...)}.
+	 * @return this
+	 */
+	public T code(Object p1, Object p2, Object p3, Object p4) {
+	  return element("code", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>code</code> element, see {@link #code(Object...)}.
+	 * @return this
+	 */
+	public T code(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("code", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>col</code> element.
+	 * @return this
+	 */
+	public T col(Object...params) {
+	  return $("col", params);
+	}
+	/**
+	 * The <code>col</code> element, see {@link #col(Object...)}.
+	 * @return this
+	 */
+	public T col() {
+	  return element("col");
+	}
+	/**
+	 * The <code>col</code> element, see {@link #col(Object...)}.
+	 * @return this
+	 */
+	public T col(Object p1, Object p2) {
+	  return element("col", p1, p2);
+	}
+	/**
+	 * The <code>col</code> element, see {@link #col(Object...)}.
+	 * @return this
+	 */
+	public T col(Object p1, Object p2, Object p3, Object p4) {
+	  return element("col", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>col</code> element, see {@link #col(Object...)}.
+	 * @return this
+	 */
+	public T col(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("col", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>colgroup</code> element.
+	 * @return this
+	 */
+	public T colgroup(Object...params) {
+	  return $("colgroup", params);
+	}
+	/**
+	 * The <code>colgroup</code> element, see {@link #colgroup(Object...)}.
+	 * @return this
+	 */
+	public T colgroup() {
+	  return element("colgroup");
+	}
+	/**
+	 * The <code>colgroup</code> element, see {@link #colgroup(Object...)}.
+	 * @return this
+	 */
+	public T colgroup(Object p1, Object p2) {
+	  return element("colgroup", p1, p2);
+	}
+	/**
+	 * The <code>colgroup</code> element, see {@link #colgroup(Object...)}.
+	 * @return this
+	 */
+	public T colgroup(Object p1, Object p2, Object p3, Object p4) {
+	  return element("colgroup", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>colgroup</code> element, see {@link #colgroup(Object...)}.
+	 * @return this
+	 */
+	public T colgroup(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("colgroup", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>command</code> element.
+	 * @return this
+	 */
+	public T command(Object...params) {
+	  return $("command", params);
+	}
+	/**
+	 * The <code>command</code> element, see {@link #command(Object...)}.
+	 * @return this
+	 */
+	public T command() {
+	  return element("command");
+	}
+	/**
+	 * The <code>command</code> element, see {@link #command(Object...)}.
+	 * @return this
+	 */
+	public T command(Object p1, Object p2) {
+	  return element("command", p1, p2);
+	}
+	/**
+	 * The <code>command</code> element, see {@link #command(Object...)}.
+	 * @return this
+	 */
+	public T command(Object p1, Object p2, Object p3, Object p4) {
+	  return element("command", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>command</code> element, see {@link #command(Object...)}.
+	 * @return this
+	 */
+	public T command(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("command", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>datalist</code> element.
+	 * @return this
+	 */
+	public T datalist(Object...params) {
+	  return $("datalist", params);
+	}
+	/**
+	 * The <code>datalist</code> element, see {@link #datalist(Object...)}.
+	 * @return this
+	 */
+	public T datalist() {
+	  return element("datalist");
+	}
+	/**
+	 * The <code>datalist</code> element, see {@link #datalist(Object...)}.
+	 * @return this
+	 */
+	public T datalist(Object p1, Object p2) {
+	  return element("datalist", p1, p2);
+	}
+	/**
+	 * The <code>datalist</code> element, see {@link #datalist(Object...)}.
+	 * @return this
+	 */
+	public T datalist(Object p1, Object p2, Object p3, Object p4) {
+	  return element("datalist", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>datalist</code> element, see {@link #datalist(Object...)}.
+	 * @return this
+	 */
+	public T datalist(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("datalist", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>dd</code> element.
+	 * @return this
+	 */
+	public T dd(Object...params) {
+	  return $("dd", params);
+	}
+	/**
+	 * The <code>dd</code> element, see {@link #dd(Object...)}.
+	 * @return this
+	 */
+	public T dd() {
+	  return element("dd");
+	}
+	/**
+	 * The <code>dd</code> element, see {@link #dd(Object...)}.
+	 * @return this
+	 */
+	public T dd(Object p1, Object p2) {
+	  return element("dd", p1, p2);
+	}
+	/**
+	 * The <code>dd</code> element, see {@link #dd(Object...)}.
+	 * @return this
+	 */
+	public T dd(Object p1, Object p2, Object p3, Object p4) {
+	  return element("dd", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>dd</code> element, see {@link #dd(Object...)}.
+	 * @return this
+	 */
+	public T dd(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("dd", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>del</code> element.
+	 * @return this
+	 */
+	public T del(Object...params) {
+	  return $("del", params);
+	}
+	/**
+	 * The <code>del</code> element, see {@link #del(Object...)}.
+	 * @return this
+	 */
+	public T del() {
+	  return element("del");
+	}
+	/**
+	 * The <code>del</code> element, see {@link #del(Object...)}.
+	 * @return this
+	 */
+	public T del(Object p1, Object p2) {
+	  return element("del", p1, p2);
+	}
+	/**
+	 * The <code>del</code> element, see {@link #del(Object...)}.
+	 * @return this
+	 */
+	public T del(Object p1, Object p2, Object p3, Object p4) {
+	  return element("del", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>del</code> element, see {@link #del(Object...)}.
+	 * @return this
+	 */
+	public T del(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("del", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>details</code> element.
+	 * @return this
+	 */
+	public T details(Object...params) {
+	  return $("details", params);
+	}
+	/**
+	 * The <code>details</code> element, see {@link #details(Object...)}.
+	 * @return this
+	 */
+	public T details() {
+	  return element("details");
+	}
+	/**
+	 * The <code>details</code> element, see {@link #details(Object...)}.
+	 * @return this
+	 */
+	public T details(Object p1, Object p2) {
+	  return element("details", p1, p2);
+	}
+	/**
+	 * The <code>details</code> element, see {@link #details(Object...)}.
+	 * @return this
+	 */
+	public T details(Object p1, Object p2, Object p3, Object p4) {
+	  return element("details", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>details</code> element, see {@link #details(Object...)}.
+	 * @return this
+	 */
+	public T details(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("details", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>dfn</code> element.
+	 * @return this
+	 */
+	public T dfn(Object...params) {
+	  return $("dfn", params);
+	}
+	/**
+	 * The <code>dfn</code> element, see {@link #dfn(Object...)}.
+	 * @return this
+	 */
+	public T dfn() {
+	  return element("dfn");
+	}
+	/**
+	 * The <code>dfn</code> element, see {@link #dfn(Object...)}.
+	 * @return this
+	 */
+	public T dfn(Object p1, Object p2) {
+	  return element("dfn", p1, p2);
+	}
+	/**
+	 * The <code>dfn</code> element, see {@link #dfn(Object...)}.
+	 * @return this
+	 */
+	public T dfn(Object p1, Object p2, Object p3, Object p4) {
+	  return element("dfn", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>dfn</code> element, see {@link #dfn(Object...)}.
+	 * @return this
+	 */
+	public T dfn(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("dfn", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>div</code> element.
+	 * @return this
+	 */
+	public T div(Object...params) {
+	  return $("div", params);
+	}
+	/**
+	 * The <code>div</code> element, see {@link #div(Object...)}.
+	 * @return this
+	 */
+	public T div() {
+	  return element("div");
+	}
+	/**
+	 * The <code>div</code> element, see {@link #div(Object...)}.
+	 * @return this
+	 */
+	public T div(Object p1, Object p2) {
+	  return element("div", p1, p2);
+	}
+	/**
+	 * The <code>div</code> element, see {@link #div(Object...)}.
+	 * @return this
+	 */
+	public T div(Object p1, Object p2, Object p3, Object p4) {
+	  return element("div", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>div</code> element, see {@link #div(Object...)}.
+	 * @return this
+	 */
+	public T div(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("div", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>dl</code> element.
+	 * @return this
+	 */
+	public T dl(Object...params) {
+	  return $("dl", params);
+	}
+	/**
+	 * The <code>dl</code> element, see {@link #dl(Object...)}.
+	 * @return this
+	 */
+	public T dl() {
+	  return element("dl");
+	}
+	/**
+	 * The <code>dl</code> element, see {@link #dl(Object...)}.
+	 * @return this
+	 */
+	public T dl(Object p1, Object p2) {
+	  return element("dl", p1, p2);
+	}
+	/**
+	 * The <code>dl</code> element, see {@link #dl(Object...)}.
+	 * @return this
+	 */
+	public T dl(Object p1, Object p2, Object p3, Object p4) {
+	  return element("dl", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>dl</code> element, see {@link #dl(Object...)}.
+	 * @return this
+	 */
+	public T dl(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("dl", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>dt</code> element.
+	 * @return this
+	 */
+	public T dt(Object...params) {
+	  return $("dt", params);
+	}
+	/**
+	 * The <code>dt</code> element, see {@link #dt(Object...)}.
+	 * @return this
+	 */
+	public T dt() {
+	  return element("dt");
+	}
+	/**
+	 * The <code>dt</code> element, see {@link #dt(Object...)}.
+	 * @return this
+	 */
+	public T dt(Object p1, Object p2) {
+	  return element("dt", p1, p2);
+	}
+	/**
+	 * The <code>dt</code> element, see {@link #dt(Object...)}.
+	 * @return this
+	 */
+	public T dt(Object p1, Object p2, Object p3, Object p4) {
+	  return element("dt", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>dt</code> element, see {@link #dt(Object...)}.
+	 * @return this
+	 */
+	public T dt(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("dt", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>em</code> element.
+	 * @return this
+	 */
+	public T em(Object...params) {
+	  return $("em", params);
+	}
+	/**
+	 * The <code>em</code> element, see {@link #em(Object...)}.
+	 * @return this
+	 */
+	public T em() {
+	  return element("em");
+	}
+	/**
+	 * The <code>em</code> element, see {@link #em(Object...)}.
+	 * @return this
+	 */
+	public T em(Object p1, Object p2) {
+	  return element("em", p1, p2);
+	}
+	/**
+	 * The <code>em</code> element, see {@link #em(Object...)}.
+	 * @return this
+	 */
+	public T em(Object p1, Object p2, Object p3, Object p4) {
+	  return element("em", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>em</code> element, see {@link #em(Object...)}.
+	 * @return this
+	 */
+	public T em(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("em", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>embed</code> element.
+	 * @return this
+	 */
+	public T embed(Object...params) {
+	  return $("embed", params);
+	}
+	/**
+	 * The <code>embed</code> element, see {@link #embed(Object...)}.
+	 * @return this
+	 */
+	public T embed() {
+	  return element("embed");
+	}
+	/**
+	 * The <code>embed</code> element, see {@link #embed(Object...)}.
+	 * @return this
+	 */
+	public T embed(Object p1, Object p2) {
+	  return element("embed", p1, p2);
+	}
+	/**
+	 * The <code>embed</code> element, see {@link #embed(Object...)}.
+	 * @return this
+	 */
+	public T embed(Object p1, Object p2, Object p3, Object p4) {
+	  return element("embed", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>embed</code> element, see {@link #embed(Object...)}.
+	 * @return this
+	 */
+	public T embed(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("embed", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>fieldset</code> element.
+	 * @return this
+	 */
+	public T fieldset(Object...params) {
+	  return $("fieldset", params);
+	}
+	/**
+	 * The <code>fieldset</code> element, see {@link #fieldset(Object...)}.
+	 * @return this
+	 */
+	public T fieldset() {
+	  return element("fieldset");
+	}
+	/**
+	 * The <code>fieldset</code> element, see {@link #fieldset(Object...)}.
+	 * @return this
+	 */
+	public T fieldset(Object p1, Object p2) {
+	  return element("fieldset", p1, p2);
+	}
+	/**
+	 * The <code>fieldset</code> element, see {@link #fieldset(Object...)}.
+	 * @return this
+	 */
+	public T fieldset(Object p1, Object p2, Object p3, Object p4) {
+	  return element("fieldset", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>fieldset</code> element, see {@link #fieldset(Object...)}.
+	 * @return this
+	 */
+	public T fieldset(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("fieldset", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>figcaption</code> element.
+	 * @return this
+	 */
+	public T figcaption(Object...params) {
+	  return $("figcaption", params);
+	}
+	/**
+	 * The <code>figcaption</code> element, see {@link #figcaption(Object...)}.
+	 * @return this
+	 */
+	public T figcaption() {
+	  return element("figcaption");
+	}
+	/**
+	 * The <code>figcaption</code> element, see {@link #figcaption(Object...)}.
+	 * @return this
+	 */
+	public T figcaption(Object p1, Object p2) {
+	  return element("figcaption", p1, p2);
+	}
+	/**
+	 * The <code>figcaption</code> element, see {@link #figcaption(Object...)}.
+	 * @return this
+	 */
+	public T figcaption(Object p1, Object p2, Object p3, Object p4) {
+	  return element("figcaption", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>figcaption</code> element, see {@link #figcaption(Object...)}.
+	 * @return this
+	 */
+	public T figcaption(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("figcaption", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>figure</code> element.
+	 * @return this
+	 */
+	public T figure(Object...params) {
+	  return $("figure", params);
+	}
+	/**
+	 * The <code>figure</code> element, see {@link #figure(Object...)}.
+	 * @return this
+	 */
+	public T figure() {
+	  return element("figure");
+	}
+	/**
+	 * The <code>figure</code> element, see {@link #figure(Object...)}.
+	 * @return this
+	 */
+	public T figure(Object p1, Object p2) {
+	  return element("figure", p1, p2);
+	}
+	/**
+	 * The <code>figure</code> element, see {@link #figure(Object...)}.
+	 * @return this
+	 */
+	public T figure(Object p1, Object p2, Object p3, Object p4) {
+	  return element("figure", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>figure</code> element, see {@link #figure(Object...)}.
+	 * @return this
+	 */
+	public T figure(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("figure", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>footer</code> element.
+	 * @return this
+	 */
+	public T footer(Object...params) {
+	  return $("footer", params);
+	}
+	/**
+	 * The <code>footer</code> element, see {@link #footer(Object...)}.
+	 * @return this
+	 */
+	public T footer() {
+	  return element("footer");
+	}
+	/**
+	 * The <code>footer</code> element, see {@link #footer(Object...)}.
+	 * @return this
+	 */
+	public T footer(Object p1, Object p2) {
+	  return element("footer", p1, p2);
+	}
+	/**
+	 * The <code>footer</code> element, see {@link #footer(Object...)}.
+	 * @return this
+	 */
+	public T footer(Object p1, Object p2, Object p3, Object p4) {
+	  return element("footer", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>footer</code> element, see {@link #footer(Object...)}.
+	 * @return this
+	 */
+	public T footer(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("footer", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>form</code> element.
+	 * @return this
+	 */
+	public T form(Object...params) {
+	  return $("form", params);
+	}
+	/**
+	 * The <code>form</code> element, see {@link #form(Object...)}.
+	 * @return this
+	 */
+	public T form() {
+	  return element("form");
+	}
+	/**
+	 * The <code>form</code> element, see {@link #form(Object...)}.
+	 * @return this
+	 */
+	public T form(Object p1, Object p2) {
+	  return element("form", p1, p2);
+	}
+	/**
+	 * The <code>form</code> element, see {@link #form(Object...)}.
+	 * @return this
+	 */
+	public T form(Object p1, Object p2, Object p3, Object p4) {
+	  return element("form", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>form</code> element, see {@link #form(Object...)}.
+	 * @return this
+	 */
+	public T form(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("form", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>h1</code> element.
+	 * @return this
+	 */
+	public T h1(Object...params) {
+	  return $("h1", params);
+	}
+	/**
+	 * The <code>h1</code> element, see {@link #h1(Object...)}.
+	 * @return this
+	 */
+	public T h1() {
+	  return element("h1");
+	}
+	/**
+	 * The <code>h1</code> element, see {@link #h1(Object...)}.
+	 * @return this
+	 */
+	public T h1(Object p1, Object p2) {
+	  return element("h1", p1, p2);
+	}
+	/**
+	 * The <code>h1</code> element, see {@link #h1(Object...)}.
+	 * @return this
+	 */
+	public T h1(Object p1, Object p2, Object p3, Object p4) {
+	  return element("h1", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>h1</code> element, see {@link #h1(Object...)}.
+	 * @return this
+	 */
+	public T h1(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("h1", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>h2</code> element.
+	 * @return this
+	 */
+	public T h2(Object...params) {
+	  return $("h2", params);
+	}
+	/**
+	 * The <code>h2</code> element, see {@link #h2(Object...)}.
+	 * @return this
+	 */
+	public T h2() {
+	  return element("h2");
+	}
+	/**
+	 * The <code>h2</code> element, see {@link #h2(Object...)}.
+	 * @return this
+	 */
+	public T h2(Object p1, Object p2) {
+	  return element("h2", p1, p2);
+	}
+	/**
+	 * The <code>h2</code> element, see {@link #h2(Object...)}.
+	 * @return this
+	 */
+	public T h2(Object p1, Object p2, Object p3, Object p4) {
+	  return element("h2", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>h2</code> element, see {@link #h2(Object...)}.
+	 * @return this
+	 */
+	public T h2(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("h2", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>h3</code> element.
+	 * @return this
+	 */
+	public T h3(Object...params) {
+	  return $("h3", params);
+	}
+	/**
+	 * The <code>h3</code> element, see {@link #h3(Object...)}.
+	 * @return this
+	 */
+	public T h3() {
+	  return element("h3");
+	}
+	/**
+	 * The <code>h3</code> element, see {@link #h3(Object...)}.
+	 * @return this
+	 */
+	public T h3(Object p1, Object p2) {
+	  return element("h3", p1, p2);
+	}
+	/**
+	 * The <code>h3</code> element, see {@link #h3(Object...)}.
+	 * @return this
+	 */
+	public T h3(Object p1, Object p2, Object p3, Object p4) {
+	  return element("h3", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>h3</code> element, see {@link #h3(Object...)}.
+	 * @return this
+	 */
+	public T h3(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("h3", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>h4</code> element.
+	 * @return this
+	 */
+	public T h4(Object...params) {
+	  return $("h4", params);
+	}
+	/**
+	 * The <code>h4</code> element, see {@link #h4(Object...)}.
+	 * @return this
+	 */
+	public T h4() {
+	  return element("h4");
+	}
+	/**
+	 * The <code>h4</code> element, see {@link #h4(Object...)}.
+	 * @return this
+	 */
+	public T h4(Object p1, Object p2) {
+	  return element("h4", p1, p2);
+	}
+	/**
+	 * The <code>h4</code> element, see {@link #h4(Object...)}.
+	 * @return this
+	 */
+	public T h4(Object p1, Object p2, Object p3, Object p4) {
+	  return element("h4", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>h4</code> element, see {@link #h4(Object...)}.
+	 * @return this
+	 */
+	public T h4(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("h4", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>h5</code> element.
+	 * @return this
+	 */
+	public T h5(Object...params) {
+	  return $("h5", params);
+	}
+	/**
+	 * The <code>h5</code> element, see {@link #h5(Object...)}.
+	 * @return this
+	 */
+	public T h5() {
+	  return element("h5");
+	}
+	/**
+	 * The <code>h5</code> element, see {@link #h5(Object...)}.
+	 * @return this
+	 */
+	public T h5(Object p1, Object p2) {
+	  return element("h5", p1, p2);
+	}
+	/**
+	 * The <code>h5</code> element, see {@link #h5(Object...)}.
+	 * @return this
+	 */
+	public T h5(Object p1, Object p2, Object p3, Object p4) {
+	  return element("h5", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>h5</code> element, see {@link #h5(Object...)}.
+	 * @return this
+	 */
+	public T h5(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("h5", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>h6</code> element.
+	 * @return this
+	 */
+	public T h6(Object...params) {
+	  return $("h6", params);
+	}
+	/**
+	 * The <code>h6</code> element, see {@link #h6(Object...)}.
+	 * @return this
+	 */
+	public T h6() {
+	  return element("h6");
+	}
+	/**
+	 * The <code>h6</code> element, see {@link #h6(Object...)}.
+	 * @return this
+	 */
+	public T h6(Object p1, Object p2) {
+	  return element("h6", p1, p2);
+	}
+	/**
+	 * The <code>h6</code> element, see {@link #h6(Object...)}.
+	 * @return this
+	 */
+	public T h6(Object p1, Object p2, Object p3, Object p4) {
+	  return element("h6", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>h6</code> element, see {@link #h6(Object...)}.
+	 * @return this
+	 */
+	public T h6(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("h6", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>head</code> element.
+	 * @return this
+	 */
+	public T head(Object...params) {
+	  return $("head", params);
+	}
+	/**
+	 * The <code>head</code> element, see {@link #head(Object...)}.
+	 * @return this
+	 */
+	public T head() {
+	  return element("head");
+	}
+	/**
+	 * The <code>head</code> element, see {@link #head(Object...)}.
+	 * @return this
+	 */
+	public T head(Object p1, Object p2) {
+	  return element("head", p1, p2);
+	}
+	/**
+	 * The <code>head</code> element, see {@link #head(Object...)}.
+	 * @return this
+	 */
+	public T head(Object p1, Object p2, Object p3, Object p4) {
+	  return element("head", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>head</code> element, see {@link #head(Object...)}.
+	 * @return this
+	 */
+	public T head(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("head", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>header</code> element.
+	 * @return this
+	 */
+	public T header(Object...params) {
+	  return $("header", params);
+	}
+	/**
+	 * The <code>header</code> element, see {@link #header(Object...)}.
+	 * @return this
+	 */
+	public T header() {
+	  return element("header");
+	}
+	/**
+	 * The <code>header</code> element, see {@link #header(Object...)}.
+	 * @return this
+	 */
+	public T header(Object p1, Object p2) {
+	  return element("header", p1, p2);
+	}
+	/**
+	 * The <code>header</code> element, see {@link #header(Object...)}.
+	 * @return this
+	 */
+	public T header(Object p1, Object p2, Object p3, Object p4) {
+	  return element("header", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>header</code> element, see {@link #header(Object...)}.
+	 * @return this
+	 */
+	public T header(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("header", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>hgroup</code> element.
+	 * @return this
+	 */
+	public T hgroup(Object...params) {
+	  return $("hgroup", params);
+	}
+	/**
+	 * The <code>hgroup</code> element, see {@link #hgroup(Object...)}.
+	 * @return this
+	 */
+	public T hgroup() {
+	  return element("hgroup");
+	}
+	/**
+	 * The <code>hgroup</code> element, see {@link #hgroup(Object...)}.
+	 * @return this
+	 */
+	public T hgroup(Object p1, Object p2) {
+	  return element("hgroup", p1, p2);
+	}
+	/**
+	 * The <code>hgroup</code> element, see {@link #hgroup(Object...)}.
+	 * @return this
+	 */
+	public T hgroup(Object p1, Object p2, Object p3, Object p4) {
+	  return element("hgroup", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>hgroup</code> element, see {@link #hgroup(Object...)}.
+	 * @return this
+	 */
+	public T hgroup(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("hgroup", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>hr</code> element.
+	 * @return this
+	 */
+	public T hr(Object...params) {
+	  return $("hr", params);
+	}
+	/**
+	 * The <code>hr</code> element, see {@link #hr(Object...)}.
+	 * @return this
+	 */
+	public T hr() {
+	  return element("hr");
+	}
+	/**
+	 * The <code>hr</code> element, see {@link #hr(Object...)}.
+	 * @return this
+	 */
+	public T hr(Object p1, Object p2) {
+	  return element("hr", p1, p2);
+	}
+	/**
+	 * The <code>hr</code> element, see {@link #hr(Object...)}.
+	 * @return this
+	 */
+	public T hr(Object p1, Object p2, Object p3, Object p4) {
+	  return element("hr", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>hr</code> element, see {@link #hr(Object...)}.
+	 * @return this
+	 */
+	public T hr(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("hr", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>html</code> element.
+	 * @return this
+	 */
+	public T html(Object...params) {
+	  return $("html", params);
+	}
+	/**
+	 * The <code>html</code> element, see {@link #html(Object...)}.
+	 * @return this
+	 */
+	public T html() {
+	  return element("html");
+	}
+	/**
+	 * The <code>html</code> element, see {@link #html(Object...)}.
+	 * @return this
+	 */
+	public T html(Object p1, Object p2) {
+	  return element("html", p1, p2);
+	}
+	/**
+	 * The <code>html</code> element, see {@link #html(Object...)}.
+	 * @return this
+	 */
+	public T html(Object p1, Object p2, Object p3, Object p4) {
+	  return element("html", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>html</code> element, see {@link #html(Object...)}.
+	 * @return this
+	 */
+	public T html(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("html", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>i</code> element.
+	 * @return this
+	 */
+	public T i(Object...params) {
+	  return $("i", params);
+	}
+	/**
+	 * The <code>i</code> element, see {@link #i(Object...)}.
+	 * @return this
+	 */
+	public T i() {
+	  return element("i");
+	}
+	/**
+	 * The <code>i</code> element, see {@link #i(Object...)}.
+	 * @return this
+	 */
+	public T i(Object p1, Object p2) {
+	  return element("i", p1, p2);
+	}
+	/**
+	 * The <code>i</code> element, see {@link #i(Object...)}.
+	 * @return this
+	 */
+	public T i(Object p1, Object p2, Object p3, Object p4) {
+	  return element("i", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>i</code> element, see {@link #i(Object...)}.
+	 * @return this
+	 */
+	public T i(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("i", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>iframe</code> element.
+	 * @return this
+	 */
+	public T iframe(Object...params) {
+	  return $("iframe", params);
+	}
+	/**
+	 * The <code>iframe</code> element, see {@link #iframe(Object...)}.
+	 * @return this
+	 */
+	public T iframe() {
+	  return element("iframe");
+	}
+	/**
+	 * The <code>iframe</code> element, see {@link #iframe(Object...)}.
+	 * @return this
+	 */
+	public T iframe(Object p1, Object p2) {
+	  return element("iframe", p1, p2);
+	}
+	/**
+	 * The <code>iframe</code> element, see {@link #iframe(Object...)}.
+	 * @return this
+	 */
+	public T iframe(Object p1, Object p2, Object p3, Object p4) {
+	  return element("iframe", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>iframe</code> element, see {@link #iframe(Object...)}.
+	 * @return this
+	 */
+	public T iframe(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("iframe", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>img</code> element.
+	 * @return this
+	 */
+	public T img(Object...params) {
+	  return $("img", params);
+	}
+	/**
+	 * The <code>img</code> element, see {@link #img(Object...)}.
+	 * @return this
+	 */
+	public T img() {
+	  return element("img");
+	}
+	/**
+	 * The <code>img</code> element, see {@link #img(Object...)}.
+	 * @return this
+	 */
+	public T img(Object p1, Object p2) {
+	  return element("img", p1, p2);
+	}
+	/**
+	 * The <code>img</code> element, see {@link #img(Object...)}.
+	 * @return this
+	 */
+	public T img(Object p1, Object p2, Object p3, Object p4) {
+	  return element("img", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>img</code> element, see {@link #img(Object...)}.
+	 * @return this
+	 */
+	public T img(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("img", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>input</code> element.
+	 * @return this
+	 */
+	public T input(Object...params) {
+	  return $("input", params);
+	}
+	/**
+	 * The <code>input</code> element, see {@link #input(Object...)}.
+	 * @return this
+	 */
+	public T input() {
+	  return element("input");
+	}
+	/**
+	 * The <code>input</code> element, see {@link #input(Object...)}.
+	 * @return this
+	 */
+	public T input(Object p1, Object p2) {
+	  return element("input", p1, p2);
+	}
+	/**
+	 * The <code>input</code> element, see {@link #input(Object...)}.
+	 * @return this
+	 */
+	public T input(Object p1, Object p2, Object p3, Object p4) {
+	  return element("input", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>input</code> element, see {@link #input(Object...)}.
+	 * @return this
+	 */
+	public T input(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("input", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>ins</code> element.
+	 * @return this
+	 */
+	public T ins(Object...params) {
+	  return $("ins", params);
+	}
+	/**
+	 * The <code>ins</code> element, see {@link #ins(Object...)}.
+	 * @return this
+	 */
+	public T ins() {
+	  return element("ins");
+	}
+	/**
+	 * The <code>ins</code> element, see {@link #ins(Object...)}.
+	 * @return this
+	 */
+	public T ins(Object p1, Object p2) {
+	  return element("ins", p1, p2);
+	}
+	/**
+	 * The <code>ins</code> element, see {@link #ins(Object...)}.
+	 * @return this
+	 */
+	public T ins(Object p1, Object p2, Object p3, Object p4) {
+	  return element("ins", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>ins</code> element, see {@link #ins(Object...)}.
+	 * @return this
+	 */
+	public T ins(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("ins", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>kbd</code> element.
+	 * @return this
+	 */
+	public T kbd(Object...params) {
+	  return $("kbd", params);
+	}
+	/**
+	 * The <code>kbd</code> element, see {@link #kbd(Object...)}.
+	 * @return this
+	 */
+	public T kbd() {
+	  return element("kbd");
+	}
+	/**
+	 * The <code>kbd</code> element, see {@link #kbd(Object...)}.
+	 * @return this
+	 */
+	public T kbd(Object p1, Object p2) {
+	  return element("kbd", p1, p2);
+	}
+	/**
+	 * The <code>kbd</code> element, see {@link #kbd(Object...)}.
+	 * @return this
+	 */
+	public T kbd(Object p1, Object p2, Object p3, Object p4) {
+	  return element("kbd", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>kbd</code> element, see {@link #kbd(Object...)}.
+	 * @return this
+	 */
+	public T kbd(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("kbd", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>keygen</code> element.
+	 * @return this
+	 */
+	public T keygen(Object...params) {
+	  return $("keygen", params);
+	}
+	/**
+	 * The <code>keygen</code> element, see {@link #keygen(Object...)}.
+	 * @return this
+	 */
+	public T keygen() {
+	  return element("keygen");
+	}
+	/**
+	 * The <code>keygen</code> element, see {@link #keygen(Object...)}.
+	 * @return this
+	 */
+	public T keygen(Object p1, Object p2) {
+	  return element("keygen", p1, p2);
+	}
+	/**
+	 * The <code>keygen</code> element, see {@link #keygen(Object...)}.
+	 * @return this
+	 */
+	public T keygen(Object p1, Object p2, Object p3, Object p4) {
+	  return element("keygen", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>keygen</code> element, see {@link #keygen(Object...)}.
+	 * @return this
+	 */
+	public T keygen(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("keygen", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>label</code> element.
+	 * @return this
+	 */
+	public T label(Object...params) {
+	  return $("label", params);
+	}
+	/**
+	 * The <code>label</code> element, see {@link #label(Object...)}.
+	 * @return this
+	 */
+	public T label() {
+	  return element("label");
+	}
+	/**
+	 * The <code>label</code> element, see {@link #label(Object...)}.
+	 * @return this
+	 */
+	public T label(Object p1, Object p2) {
+	  return element("label", p1, p2);
+	}
+	/**
+	 * The <code>label</code> element, see {@link #label(Object...)}.
+	 * @return this
+	 */
+	public T label(Object p1, Object p2, Object p3, Object p4) {
+	  return element("label", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>label</code> element, see {@link #label(Object...)}.
+	 * @return this
+	 */
+	public T label(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("label", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>legend</code> element.
+	 * @return this
+	 */
+	public T legend(Object...params) {
+	  return $("legend", params);
+	}
+	/**
+	 * The <code>legend</code> element, see {@link #legend(Object...)}.
+	 * @return this
+	 */
+	public T legend() {
+	  return element("legend");
+	}
+	/**
+	 * The <code>legend</code> element, see {@link #legend(Object...)}.
+	 * @return this
+	 */
+	public T legend(Object p1, Object p2) {
+	  return element("legend", p1, p2);
+	}
+	/**
+	 * The <code>legend</code> element, see {@link #legend(Object...)}.
+	 * @return this
+	 */
+	public T legend(Object p1, Object p2, Object p3, Object p4) {
+	  return element("legend", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>legend</code> element, see {@link #legend(Object...)}.
+	 * @return this
+	 */
+	public T legend(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("legend", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>li</code> element.
+	 * @return this
+	 */
+	public T li(Object...params) {
+	  return $("li", params);
+	}
+	/**
+	 * The <code>li</code> element, see {@link #li(Object...)}.
+	 * @return this
+	 */
+	public T li() {
+	  return element("li");
+	}
+	/**
+	 * The <code>li</code> element, see {@link #li(Object...)}.
+	 * @return this
+	 */
+	public T li(Object p1, Object p2) {
+	  return element("li", p1, p2);
+	}
+	/**
+	 * The <code>li</code> element, see {@link #li(Object...)}.
+	 * @return this
+	 */
+	public T li(Object p1, Object p2, Object p3, Object p4) {
+	  return element("li", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>li</code> element, see {@link #li(Object...)}.
+	 * @return this
+	 */
+	public T li(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("li", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>link</code> element.
+	 * @return this
+	 */
+	public T link(Object...params) {
+	  return $("link", params);
+	}
+	/**
+	 * The <code>link</code> element, see {@link #link(Object...)}.
+	 * @return this
+	 */
+	public T link() {
+	  return element("link");
+	}
+	/**
+	 * The <code>link</code> element, see {@link #link(Object...)}.
+	 * @return this
+	 */
+	public T link(Object p1, Object p2) {
+	  return element("link", p1, p2);
+	}
+	/**
+	 * The <code>link</code> element, see {@link #link(Object...)}.
+	 * @return this
+	 */
+	public T link(Object p1, Object p2, Object p3, Object p4) {
+	  return element("link", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>link</code> element, see {@link #link(Object...)}.
+	 * @return this
+	 */
+	public T link(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("link", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>main</code> element.
+	 * @return this
+	 */
+	public T main(Object...params) {
+	  return $("main", params);
+	}
+	/**
+	 * The <code>main</code> element, see {@link #main(Object...)}.
+	 * @return this
+	 */
+	public T main() {
+	  return element("main");
+	}
+	/**
+	 * The <code>main</code> element, see {@link #main(Object...)}.
+	 * @return this
+	 */
+	public T main(Object p1, Object p2) {
+	  return element("main", p1, p2);
+	}
+	/**
+	 * The <code>main</code> element, see {@link #main(Object...)}.
+	 * @return this
+	 */
+	public T main(Object p1, Object p2, Object p3, Object p4) {
+	  return element("main", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>main</code> element, see {@link #main(Object...)}.
+	 * @return this
+	 */
+	public T main(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("main", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>map</code> element.
+	 * @return this
+	 */
+	public T mapp(Object...params) {
+	  return $("map", params);
+	}
+	/**
+	 * The <code>map</code> element, see {@link #mapp(Object...)}.
+	 * @return this
+	 */
+	public T mapp() {
+	  return element("map");
+	}
+	/**
+	 * The <code>map</code> element, see {@link #mapp(Object...)}.
+	 * @return this
+	 */
+	public T mapp(Object p1, Object p2) {
+	  return element("map", p1, p2);
+	}
+	/**
+	 * The <code>map</code> element, see {@link #mapp(Object...)}.
+	 * @return this
+	 */
+	public T mapp(Object p1, Object p2, Object p3, Object p4) {
+	  return element("map", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>map</code> element, see {@link #mapp(Object...)}.
+	 * @return this
+	 */
+	public T mapp(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("map", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>mark</code> element.
+	 * @return this
+	 */
+	public T mark(Object...params) {
+	  return $("mark", params);
+	}
+	/**
+	 * The <code>mark</code> element, see {@link #mark(Object...)}.
+	 * @return this
+	 */
+	public T mark() {
+	  return element("mark");
+	}
+	/**
+	 * The <code>mark</code> element, see {@link #mark(Object...)}.
+	 * @return this
+	 */
+	public T mark(Object p1, Object p2) {
+	  return element("mark", p1, p2);
+	}
+	/**
+	 * The <code>mark</code> element, see {@link #mark(Object...)}.
+	 * @return this
+	 */
+	public T mark(Object p1, Object p2, Object p3, Object p4) {
+	  return element("mark", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>mark</code> element, see {@link #mark(Object...)}.
+	 * @return this
+	 */
+	public T mark(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("mark", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>menu</code> element.
+	 * @return this
+	 */
+	public T menu(Object...params) {
+	  return $("menu", params);
+	}
+	/**
+	 * The <code>menu</code> element, see {@link #menu(Object...)}.
+	 * @return this
+	 */
+	public T menu() {
+	  return element("menu");
+	}
+	/**
+	 * The <code>menu</code> element, see {@link #menu(Object...)}.
+	 * @return this
+	 */
+	public T menu(Object p1, Object p2) {
+	  return element("menu", p1, p2);
+	}
+	/**
+	 * The <code>menu</code> element, see {@link #menu(Object...)}.
+	 * @return this
+	 */
+	public T menu(Object p1, Object p2, Object p3, Object p4) {
+	  return element("menu", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>menu</code> element, see {@link #menu(Object...)}.
+	 * @return this
+	 */
+	public T menu(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("menu", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>menuitem</code> element.
+	 * @return this
+	 */
+	public T menuitem(Object...params) {
+	  return $("menuitem", params);
+	}
+	/**
+	 * The <code>menuitem</code> element, see {@link #menuitem(Object...)}.
+	 * @return this
+	 */
+	public T menuitem() {
+	  return element("menuitem");
+	}
+	/**
+	 * The <code>menuitem</code> element, see {@link #menuitem(Object...)}.
+	 * @return this
+	 */
+	public T menuitem(Object p1, Object p2) {
+	  return element("menuitem", p1, p2);
+	}
+	/**
+	 * The <code>menuitem</code> element, see {@link #menuitem(Object...)}.
+	 * @return this
+	 */
+	public T menuitem(Object p1, Object p2, Object p3, Object p4) {
+	  return element("menuitem", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>menuitem</code> element, see {@link #menuitem(Object...)}.
+	 * @return this
+	 */
+	public T menuitem(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("menuitem", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>meta</code> element.
+	 * @return this
+	 */
+	public T meta(Object...params) {
+	  return $("meta", params);
+	}
+	/**
+	 * The <code>meta</code> element, see {@link #meta(Object...)}.
+	 * @return this
+	 */
+	public T meta() {
+	  return element("meta");
+	}
+	/**
+	 * The <code>meta</code> element, see {@link #meta(Object...)}.
+	 * @return this
+	 */
+	public T meta(Object p1, Object p2) {
+	  return element("meta", p1, p2);
+	}
+	/**
+	 * The <code>meta</code> element, see {@link #meta(Object...)}.
+	 * @return this
+	 */
+	public T meta(Object p1, Object p2, Object p3, Object p4) {
+	  return element("meta", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>meta</code> element, see {@link #meta(Object...)}.
+	 * @return this
+	 */
+	public T meta(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("meta", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>meter</code> element.
+	 * @return this
+	 */
+	public T meter(Object...params) {
+	  return $("meter", params);
+	}
+	/**
+	 * The <code>meter</code> element, see {@link #meter(Object...)}.
+	 * @return this
+	 */
+	public T meter() {
+	  return element("meter");
+	}
+	/**
+	 * The <code>meter</code> element, see {@link #meter(Object...)}.
+	 * @return this
+	 */
+	public T meter(Object p1, Object p2) {
+	  return element("meter", p1, p2);
+	}
+	/**
+	 * The <code>meter</code> element, see {@link #meter(Object...)}.
+	 * @return this
+	 */
+	public T meter(Object p1, Object p2, Object p3, Object p4) {
+	  return element("meter", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>meter</code> element, see {@link #meter(Object...)}.
+	 * @return this
+	 */
+	public T meter(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("meter", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>nav</code> element.
+	 * @return this
+	 */
+	public T nav(Object...params) {
+	  return $("nav", params);
+	}
+	/**
+	 * The <code>nav</code> element, see {@link #nav(Object...)}.
+	 * @return this
+	 */
+	public T nav() {
+	  return element("nav");
+	}
+	/**
+	 * The <code>nav</code> element, see {@link #nav(Object...)}.
+	 * @return this
+	 */
+	public T nav(Object p1, Object p2) {
+	  return element("nav", p1, p2);
+	}
+	/**
+	 * The <code>nav</code> element, see {@link #nav(Object...)}.
+	 * @return this
+	 */
+	public T nav(Object p1, Object p2, Object p3, Object p4) {
+	  return element("nav", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>nav</code> element, see {@link #nav(Object...)}.
+	 * @return this
+	 */
+	public T nav(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("nav", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>noscript</code> element.
+	 * @return this
+	 */
+	public T noscript(Object...params) {
+	  return $("noscript", params);
+	}
+	/**
+	 * The <code>noscript</code> element, see {@link #noscript(Object...)}.
+	 * @return this
+	 */
+	public T noscript() {
+	  return element("noscript");
+	}
+	/**
+	 * The <code>noscript</code> element, see {@link #noscript(Object...)}.
+	 * @return this
+	 */
+	public T noscript(Object p1, Object p2) {
+	  return element("noscript", p1, p2);
+	}
+	/**
+	 * The <code>noscript</code> element, see {@link #noscript(Object...)}.
+	 * @return this
+	 */
+	public T noscript(Object p1, Object p2, Object p3, Object p4) {
+	  return element("noscript", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>noscript</code> element, see {@link #noscript(Object...)}.
+	 * @return this
+	 */
+	public T noscript(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("noscript", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>object</code> element.
+	 * @return this
+	 */
+	public T object(Object...params) {
+	  return $("object", params);
+	}
+	/**
+	 * The <code>object</code> element, see {@link #object(Object...)}.
+	 * @return this
+	 */
+	public T object() {
+	  return element("object");
+	}
+	/**
+	 * The <code>object</code> element, see {@link #object(Object...)}.
+	 * @return this
+	 */
+	public T object(Object p1, Object p2) {
+	  return element("object", p1, p2);
+	}
+	/**
+	 * The <code>object</code> element, see {@link #object(Object...)}.
+	 * @return this
+	 */
+	public T object(Object p1, Object p2, Object p3, Object p4) {
+	  return element("object", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>object</code> element, see {@link #object(Object...)}.
+	 * @return this
+	 */
+	public T object(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("object", p1, p2, p3, p4, p5, p6);
 	}
 	/**
 	 * The <code>ol</code> element.
 	 * @return this
 	 */
-	public T ol(Object...params) {
-	  return $("ol", params);
+	public T ol(Object...params) {
+	  return $("ol", params);
+	}
+	/**
+	 * The <code>ol</code> element, see {@link #ol(Object...)}.
+	 * @return this
+	 */
+	public T ol() {
+	  return element("ol");
+	}
+	/**
+	 * The <code>ol</code> element, see {@link #ol(Object...)}.
+	 * @return this
+	 */
+	public T ol(Object p1, Object p2) {
+	  return element("ol", p1, p2);
+	}
+	/**
+	 * The <code>ol</code> element, see {@link #ol(Object...)}.
+	 * @return this
+	 */
+	public T ol(Object p1, Object p2, Object p3, Object p4) {
+	  return element("ol", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>ol</code> element, see {@link #ol(Object...)}.
+	 * @return this
+	 */
+	public T ol(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("ol", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>optgroup</code> element.
+	 * @return this
+	 */
+	public T optgroup(Object...params) {
+	  return $("optgroup", params);
+	}
+	/**
+	 * The <code>optgroup</code> element, see {@link #optgroup(Object...)}.
+	 * @return this
+	 */
+	public T optgroup() {
+	  return element("optgroup");
+	}
+	/**
+	 * The <code>optgroup</code> element, see {@link #optgroup(Object...)}.
+	 * @return this
+	 */
+	public T optgroup(Object p1, Object p2) {
+	  return element("optgroup", p1, p2);
+	}
+	/**
+	 * The <code>optgroup</code> element, see {@link #optgroup(Object...)}.
+	 * @return this
+	 */
+	public T optgroup(Object p1, Object p2, Object p3, Object p4) {
+	  return element("optgroup", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>optgroup</code> element, see {@link #optgroup(Object...)}.
+	 * @return this
+	 */
+	public T optgroup(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("optgroup", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>option</code> element.
+	 * @return this
+	 */
+	public T option(Object...params) {
+	  return $("option", params);
+	}
+	/**
+	 * The <code>option</code> element, see {@link #option(Object...)}.
+	 * @return this
+	 */
+	public T option() {
+	  return element("option");
+	}
+	/**
+	 * The <code>option</code> element, see {@link #option(Object...)}.
+	 * @return this
+	 */
+	public T option(Object p1, Object p2) {
+	  return element("option", p1, p2);
+	}
+	/**
+	 * The <code>option</code> element, see {@link #option(Object...)}.
+	 * @return this
+	 */
+	public T option(Object p1, Object p2, Object p3, Object p4) {
+	  return element("option", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>option</code> element, see {@link #option(Object...)}.
+	 * @return this
+	 */
+	public T option(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("option", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>output</code> element.
+	 * @return this
+	 */
+	public T output(Object...params) {
+	  return $("output", params);
+	}
+	/**
+	 * The <code>output</code> element, see {@link #output(Object...)}.
+	 * @return this
+	 */
+	public T output() {
+	  return element("output");
+	}
+	/**
+	 * The <code>output</code> element, see {@link #output(Object...)}.
+	 * @return this
+	 */
+	public T output(Object p1, Object p2) {
+	  return element("output", p1, p2);
+	}
+	/**
+	 * The <code>output</code> element, see {@link #output(Object...)}.
+	 * @return this
+	 */
+	public T output(Object p1, Object p2, Object p3, Object p4) {
+	  return element("output", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>output</code> element, see {@link #output(Object...)}.
+	 * @return this
+	 */
+	public T output(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("output", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>p</code> element.
+	 * @return this
+	 */
+	public T p(Object...params) {
+	  return $("p", params);
+	}
+	/**
+	 * The <code>p</code> element, see {@link #p(Object...)}.
+	 * @return this
+	 */
+	public T p() {
+	  return element("p");
+	}
+	/**
+	 * The <code>p</code> element, see {@link #p(Object...)}.
+	 * @return this
+	 */
+	public T p(Object p1, Object p2) {
+	  return element("p", p1, p2);
+	}
+	/**
+	 * The <code>p</code> element, see {@link #p(Object...)}.
+	 * @return this
+	 */
+	public T p(Object p1, Object p2, Object p3, Object p4) {
+	  return element("p", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>p</code> element, see {@link #p(Object...)}.
+	 * @return this
+	 */
+	public T p(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("p", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>param</code> element.
+	 * @return this
+	 */
+	public T param(Object...params) {
+	  return $("param", params);
+	}
+	/**
+	 * The <code>param</code> element, see {@link #param(Object...)}.
+	 * @return this
+	 */
+	public T param() {
+	  return element("param");
+	}
+	/**
+	 * The <code>param</code> element, see {@link #param(Object...)}.
+	 * @return this
+	 */
+	public T param(Object p1, Object p2) {
+	  return element("param", p1, p2);
+	}
+	/**
+	 * The <code>param</code> element, see {@link #param(Object...)}.
+	 * @return this
+	 */
+	public T param(Object p1, Object p2, Object p3, Object p4) {
+	  return element("param", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>param</code> element, see {@link #param(Object...)}.
+	 * @return this
+	 */
+	public T param(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("param", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>path</code> element.
+	 * @return this
+	 */
+	public T path(Object...params) {
+	  return $("path", params);
+	}
+	/**
+	 * The <code>path</code> element, see {@link #path(Object...)}.
+	 * @return this
+	 */
+	public T path() {
+	  return element("path");
+	}
+	/**
+	 * The <code>path</code> element, see {@link #path(Object...)}.
+	 * @return this
+	 */
+	public T path(Object p1, Object p2) {
+	  return element("path", p1, p2);
+	}
+	/**
+	 * The <code>path</code> element, see {@link #path(Object...)}.
+	 * @return this
+	 */
+	public T path(Object p1, Object p2, Object p3, Object p4) {
+	  return element("path", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>path</code> element, see {@link #path(Object...)}.
+	 * @return this
+	 */
+	public T path(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("path", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>pre</code> element.
+	 * @return this
+	 */
+	public T pre(Object...params) {
+	  return $("pre", params);
+	}
+	/**
+	 * The <code>pre</code> element, see {@link #pre(Object...)}.
+	 * @return this
+	 */
+	public T pre() {
+	  return element("pre");
+	}
+	/**
+	 * The <code>pre</code> element, see {@link #pre(Object...)}.
+	 * @return this
+	 */
+	public T pre(Object p1, Object p2) {
+	  return element("pre", p1, p2);
+	}
+	/**
+	 * The <code>pre</code> element, see {@link #pre(Object...)}.
+	 * @return this
+	 */
+	public T pre(Object p1, Object p2, Object p3, Object p4) {
+	  return element("pre", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>pre</code> element, see {@link #pre(Object...)}.
+	 * @return this
+	 */
+	public T pre(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("pre", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>progress</code> element.
+	 * @return this
+	 */
+	public T progress(Object...params) {
+	  return $("progress", params);
+	}
+	/**
+	 * The <code>progress</code> element, see {@link #progress(Object...)}.
+	 * @return this
+	 */
+	public T progress() {
+	  return element("progress");
+	}
+	/**
+	 * The <code>progress</code> element, see {@link #progress(Object...)}.
+	 * @return this
+	 */
+	public T progress(Object p1, Object p2) {
+	  return element("progress", p1, p2);
+	}
+	/**
+	 * The <code>progress</code> element, see {@link #progress(Object...)}.
+	 * @return this
+	 */
+	public T progress(Object p1, Object p2, Object p3, Object p4) {
+	  return element("progress", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>progress</code> element, see {@link #progress(Object...)}.
+	 * @return this
+	 */
+	public T progress(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("progress", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>q</code> element.
+	 * @return this
+	 */
+	public T q(Object...params) {
+	  return $("q", params);
+	}
+	/**
+	 * The <code>q</code> element, see {@link #q(Object...)}.
+	 * @return this
+	 */
+	public T q() {
+	  return element("q");
+	}
+	/**
+	 * The <code>q</code> element, see {@link #q(Object...)}.
+	 * @return this
+	 */
+	public T q(Object p1, Object p2) {
+	  return element("q", p1, p2);
+	}
+	/**
+	 * The <code>q</code> element, see {@link #q(Object...)}.
+	 * @return this
+	 */
+	public T q(Object p1, Object p2, Object p3, Object p4) {
+	  return element("q", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>q</code> element, see {@link #q(Object...)}.
+	 * @return this
+	 */
+	public T q(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("q", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>rp</code> element.
+	 * @return this
+	 */
+	public T rp(Object...params) {
+	  return $("rp", params);
+	}
+	/**
+	 * The <code>rp</code> element, see {@link #rp(Object...)}.
+	 * @return this
+	 */
+	public T rp() {
+	  return element("rp");
+	}
+	/**
+	 * The <code>rp</code> element, see {@link #rp(Object...)}.
+	 * @return this
+	 */
+	public T rp(Object p1, Object p2) {
+	  return element("rp", p1, p2);
+	}
+	/**
+	 * The <code>rp</code> element, see {@link #rp(Object...)}.
+	 * @return this
+	 */
+	public T rp(Object p1, Object p2, Object p3, Object p4) {
+	  return element("rp", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>rp</code> element, see {@link #rp(Object...)}.
+	 * @return this
+	 */
+	public T rp(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("rp", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>rt</code> element.
+	 * @return this
+	 */
+	public T rt(Object...params) {
+	  return $("rt", params);
+	}
+	/**
+	 * The <code>rt</code> element, see {@link #rt(Object...)}.
+	 * @return this
+	 */
+	public T rt() {
+	  return element("rt");
+	}
+	/**
+	 * The <code>rt</code> element, see {@link #rt(Object...)}.
+	 * @return this
+	 */
+	public T rt(Object p1, Object p2) {
+	  return element("rt", p1, p2);
+	}
+	/**
+	 * The <code>rt</code> element, see {@link #rt(Object...)}.
+	 * @return this
+	 */
+	public T rt(Object p1, Object p2, Object p3, Object p4) {
+	  return element("rt", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>rt</code> element, see {@link #rt(Object...)}.
+	 * @return this
+	 */
+	public T rt(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("rt", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>ruby</code> element.
+	 * @return this
+	 */
+	public T ruby(Object...params) {
+	  return $("ruby", params);
+	}
+	/**
+	 * The <code>ruby</code> element, see {@link #ruby(Object...)}.
+	 * @return this
+	 */
+	public T ruby() {
+	  return element("ruby");
+	}
+	/**
+	 * The <code>ruby</code> element, see {@link #ruby(Object...)}.
+	 * @return this
+	 */
+	public T ruby(Object p1, Object p2) {
+	  return element("ruby", p1, p2);
+	}
+	/**
+	 * The <code>ruby</code> element, see {@link #ruby(Object...)}.
+	 * @return this
+	 */
+	public T ruby(Object p1, Object p2, Object p3, Object p4) {
+	  return element("ruby", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>ruby</code> element, see {@link #ruby(Object...)}.
+	 * @return this
+	 */
+	public T ruby(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("ruby", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>s</code> element.
+	 * @return this
+	 */
+	public T s(Object...params) {
+	  return $("s", params);
+	}
+	/**
+	 * The <code>s</code> element, see {@link #s(Object...)}.
+	 * @return this
+	 */
+	public T s() {
+	  return element("s");
+	}
+	/**
+	 * The <code>s</code> element, see {@link #s(Object...)}.
+	 * @return this
+	 */
+	public T s(Object p1, Object p2) {
+	  return element("s", p1, p2);
+	}
+	/**
+	 * The <code>s</code> element, see {@link #s(Object...)}.
+	 * @return this
+	 */
+	public T s(Object p1, Object p2, Object p3, Object p4) {
+	  return element("s", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>s</code> element, see {@link #s(Object...)}.
+	 * @return this
+	 */
+	public T s(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("s", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>samp</code> element.
+	 * @return this
+	 */
+	public T samp(Object...params) {
+	  return $("samp", params);
+	}
+	/**
+	 * The <code>samp</code> element, see {@link #samp(Object...)}.
+	 * @return this
+	 */
+	public T samp() {
+	  return element("samp");
+	}
+	/**
+	 * The <code>samp</code> element, see {@link #samp(Object...)}.
+	 * @return this
+	 */
+	public T samp(Object p1, Object p2) {
+	  return element("samp", p1, p2);
+	}
+	/**
+	 * The <code>samp</code> element, see {@link #samp(Object...)}.
+	 * @return this
+	 */
+	public T samp(Object p1, Object p2, Object p3, Object p4) {
+	  return element("samp", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>samp</code> element, see {@link #samp(Object...)}.
+	 * @return this
+	 */
+	public T samp(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("samp", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>script</code> element.
+	 * @return this
+	 */
+	public T script(Object...params) {
+	  return $("script", params);
+	}
+	/**
+	 * The <code>script</code> element, see {@link #script(Object...)}.
+	 * @return this
+	 */
+	public T script() {
+	  return element("script");
+	}
+	/**
+	 * The <code>script</code> element, see {@link #script(Object...)}.
+	 * @return this
+	 */
+	public T script(Object p1, Object p2) {
+	  return element("script", p1, p2);
+	}
+	/**
+	 * The <code>script</code> element, see {@link #script(Object...)}.
+	 * @return this
+	 */
+	public T script(Object p1, Object p2, Object p3, Object p4) {
+	  return element("script", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>script</code> element, see {@link #script(Object...)}.
+	 * @return this
+	 */
+	public T script(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("script", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>section</code> element.
+	 * @return this
+	 */
+	public T section(Object...params) {
+	  return $("section", params);
+	}
+	/**
+	 * The <code>section</code> element, see {@link #section(Object...)}.
+	 * @return this
+	 */
+	public T section() {
+	  return element("section");
+	}
+	/**
+	 * The <code>section</code> element, see {@link #section(Object...)}.
+	 * @return this
+	 */
+	public T section(Object p1, Object p2) {
+	  return element("section", p1, p2);
+	}
+	/**
+	 * The <code>section</code> element, see {@link #section(Object...)}.
+	 * @return this
+	 */
+	public T section(Object p1, Object p2, Object p3, Object p4) {
+	  return element("section", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>section</code> element, see {@link #section(Object...)}.
+	 * @return this
+	 */
+	public T section(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("section", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>select</code> element.
+	 * @return this
+	 */
+	public T select(Object...params) {
+	  return $("select", params);
+	}
+	/**
+	 * The <code>select</code> element, see {@link #select(Object...)}.
+	 * @return this
+	 */
+	public T select() {
+	  return element("select");
+	}
+	/**
+	 * The <code>select</code> element, see {@link #select(Object...)}.
+	 * @return this
+	 */
+	public T select(Object p1, Object p2) {
+	  return element("select", p1, p2);
+	}
+	/**
+	 * The <code>select</code> element, see {@link #select(Object...)}.
+	 * @return this
+	 */
+	public T select(Object p1, Object p2, Object p3, Object p4) {
+	  return element("select", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>select</code> element, see {@link #select(Object...)}.
+	 * @return this
+	 */
+	public T select(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("select", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>small</code> element.
+	 * @return this
+	 */
+	public T small(Object...params) {
+	  return $("small", params);
+	}
+	/**
+	 * The <code>small</code> element, see {@link #small(Object...)}.
+	 * @return this
+	 */
+	public T small() {
+	  return element("small");
+	}
+	/**
+	 * The <code>small</code> element, see {@link #small(Object...)}.
+	 * @return this
+	 */
+	public T small(Object p1, Object p2) {
+	  return element("small", p1, p2);
+	}
+	/**
+	 * The <code>small</code> element, see {@link #small(Object...)}.
+	 * @return this
+	 */
+	public T small(Object p1, Object p2, Object p3, Object p4) {
+	  return element("small", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>small</code> element, see {@link #small(Object...)}.
+	 * @return this
+	 */
+	public T small(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("small", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>source</code> element.
+	 * @return this
+	 */
+	public T source(Object...params) {
+	  return $("source", params);
+	}
+	/**
+	 * The <code>source</code> element, see {@link #source(Object...)}.
+	 * @return this
+	 */
+	public T source() {
+	  return element("source");
+	}
+	/**
+	 * The <code>source</code> element, see {@link #source(Object...)}.
+	 * @return this
+	 */
+	public T source(Object p1, Object p2) {
+	  return element("source", p1, p2);
+	}
+	/**
+	 * The <code>source</code> element, see {@link #source(Object...)}.
+	 * @return this
+	 */
+	public T source(Object p1, Object p2, Object p3, Object p4) {
+	  return element("source", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>source</code> element, see {@link #source(Object...)}.
+	 * @return this
+	 */
+	public T source(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("source", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>span</code> element.
+	 * @return this
+	 */
+	public T span(Object...params) {
+	  return $("span", params);
+	}
+	/**
+	 * The <code>span</code> element, see {@link #span(Object...)}.
+	 * @return this
+	 */
+	public T span() {
+	  return element("span");
+	}
+	/**
+	 * The <code>span</code> element, see {@link #span(Object...)}.
+	 * @return this
+	 */
+	public T span(Object p1, Object p2) {
+	  return element("span", p1, p2);
+	}
+	/**
+	 * The <code>span</code> element, see {@link #span(Object...)}.
+	 * @return this
+	 */
+	public T span(Object p1, Object p2, Object p3, Object p4) {
+	  return element("span", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>span</code> element, see {@link #span(Object...)}.
+	 * @return this
+	 */
+	public T span(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("span", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>strong</code> element.
+	 * @return this
+	 */
+	public T strong(Object...params) {
+	  return $("strong", params);
+	}
+	/**
+	 * The <code>strong</code> element, see {@link #strong(Object...)}.
+	 * @return this
+	 */
+	public T strong() {
+	  return element("strong");
+	}
+	/**
+	 * The <code>strong</code> element, see {@link #strong(Object...)}.
+	 * @return this
+	 */
+	public T strong(Object p1, Object p2) {
+	  return element("strong", p1, p2);
+	}
+	/**
+	 * The <code>strong</code> element, see {@link #strong(Object...)}.
+	 * @return this
+	 */
+	public T strong(Object p1, Object p2, Object p3, Object p4) {
+	  return element("strong", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>strong</code> element, see {@link #strong(Object...)}.
+	 * @return this
+	 */
+	public T strong(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("strong", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>style</code> element.
+	 * @return this
+	 */
+	public T style(Object...params) {
+	  return $("style", params);
+	}
+	/**
+	 * The <code>style</code> element, see {@link #style(Object...)}.
+	 * @return this
+	 */
+	public T style() {
+	  return element("style");
+	}
+	/**
+	 * The <code>style</code> element, see {@link #style(Object...)}.
+	 * @return this
+	 */
+	public T style(Object p1, Object p2) {
+	  return element("style", p1, p2);
+	}
+	/**
+	 * The <code>style</code> element, see {@link #style(Object...)}.
+	 * @return this
+	 */
+	public T style(Object p1, Object p2, Object p3, Object p4) {
+	  return element("style", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>style</code> element, see {@link #style(Object...)}.
+	 * @return this
+	 */
+	public T style(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("style", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>sub</code> element.
+	 * @return this
+	 */
+	public T sub(Object...params) {
+	  return $("sub", params);
+	}
+	/**
+	 * The <code>sub</code> element, see {@link #sub(Object...)}.
+	 * @return this
+	 */
+	public T sub() {
+	  return element("sub");
+	}
+	/**
+	 * The <code>sub</code> element, see {@link #sub(Object...)}.
+	 * @return this
+	 */
+	public T sub(Object p1, Object p2) {
+	  return element("sub", p1, p2);
+	}
+	/**
+	 * The <code>sub</code> element, see {@link #sub(Object...)}.
+	 * @return this
+	 */
+	public T sub(Object p1, Object p2, Object p3, Object p4) {
+	  return element("sub", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>sub</code> element, see {@link #sub(Object...)}.
+	 * @return this
+	 */
+	public T sub(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("sub", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>summary</code> element.
+	 * @return this
+	 */
+	public T summary(Object...params) {
+	  return $("summary", params);
+	}
+	/**
+	 * The <code>summary</code> element, see {@link #summary(Object...)}.
+	 * @return this
+	 */
+	public T summary() {
+	  return element("summary");
+	}
+	/**
+	 * The <code>summary</code> element, see {@link #summary(Object...)}.
+	 * @return this
+	 */
+	public T summary(Object p1, Object p2) {
+	  return element("summary", p1, p2);
+	}
+	/**
+	 * The <code>summary</code> element, see {@link #summary(Object...)}.
+	 * @return this
+	 */
+	public T summary(Object p1, Object p2, Object p3, Object p4) {
+	  return element("summary", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>summary</code> element, see {@link #summary(Object...)}.
+	 * @return this
+	 */
+	public T summary(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("summary", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>sup</code> element.
+	 * @return this
+	 */
+	public T sup(Object...params) {
+	  return $("sup", params);
+	}
+	/**
+	 * The <code>sup</code> element, see {@link #sup(Object...)}.
+	 * @return this
+	 */
+	public T sup() {
+	  return element("sup");
+	}
+	/**
+	 * The <code>sup</code> element, see {@link #sup(Object...)}.
+	 * @return this
+	 */
+	public T sup(Object p1, Object p2) {
+	  return element("sup", p1, p2);
+	}
+	/**
+	 * The <code>sup</code> element, see {@link #sup(Object...)}.
+	 * @return this
+	 */
+	public T sup(Object p1, Object p2, Object p3, Object p4) {
+	  return element("sup", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>sup</code> element, see {@link #sup(Object...)}.
+	 * @return this
+	 */
+	public T sup(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("sup", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>svg</code> element.
+	 * @return this
+	 */
+	public T svg(Object...params) {
+	  return $("svg", params);
+	}
+	/**
+	 * The <code>svg</code> element, see {@link #svg(Object...)}.
+	 * @return this
+	 */
+	public T svg() {
+	  return element("svg");
+	}
+	/**
+	 * The <code>svg</code> element, see {@link #svg(Object...)}.
+	 * @return this
+	 */
+	public T svg(Object p1, Object p2) {
+	  return element("svg", p1, p2);
+	}
+	/**
+	 * The <code>svg</code> element, see {@link #svg(Object...)}.
+	 * @return this
+	 */
+	public T svg(Object p1, Object p2, Object p3, Object p4) {
+	  return element("svg", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>svg</code> element, see {@link #svg(Object...)}.
+	 * @return this
+	 */
+	public T svg(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("svg", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>table</code> element.
+	 * @return this
+	 */
+	public T table(Object...params) {
+	  return $("table", params);
+	}
+	/**
+	 * The <code>table</code> element, see {@link #table(Object...)}.
+	 * @return this
+	 */
+	public T table() {
+	  return element("table");
+	}
+	/**
+	 * The <code>table</code> element, see {@link #table(Object...)}.
+	 * @return this
+	 */
+	public T table(Object p1, Object p2) {
+	  return element("table", p1, p2);
+	}
+	/**
+	 * The <code>table</code> element, see {@link #table(Object...)}.
+	 * @return this
+	 */
+	public T table(Object p1, Object p2, Object p3, Object p4) {
+	  return element("table", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>table</code> element, see {@link #table(Object...)}.
+	 * @return this
+	 */
+	public T table(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("table", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>tbody</code> element.
+	 * @return this
+	 */
+	public T tbody(Object...params) {
+	  return $("tbody", params);
+	}
+	/**
+	 * The <code>tbody</code> element, see {@link #tbody(Object...)}.
+	 * @return this
+	 */
+	public T tbody() {
+	  return element("tbody");
+	}
+	/**
+	 * The <code>tbody</code> element, see {@link #tbody(Object...)}.
+	 * @return this
+	 */
+	public T tbody(Object p1, Object p2) {
+	  return element("tbody", p1, p2);
+	}
+	/**
+	 * The <code>tbody</code> element, see {@link #tbody(Object...)}.
+	 * @return this
+	 */
+	public T tbody(Object p1, Object p2, Object p3, Object p4) {
+	  return element("tbody", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>tbody</code> element, see {@link #tbody(Object...)}.
+	 * @return this
+	 */
+	public T tbody(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("tbody", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>td</code> element.
+	 * @return this
+	 */
+	public T td(Object...params) {
+	  return $("td", params);
+	}
+	/**
+	 * The <code>td</code> element, see {@link #td(Object...)}.
+	 * @return this
+	 */
+	public T td() {
+	  return element("td");
+	}
+	/**
+	 * The <code>td</code> element, see {@link #td(Object...)}.
+	 * @return this
+	 */
+	public T td(Object p1, Object p2) {
+	  return element("td", p1, p2);
+	}
+	/**
+	 * The <code>td</code> element, see {@link #td(Object...)}.
+	 * @return this
+	 */
+	public T td(Object p1, Object p2, Object p3, Object p4) {
+	  return element("td", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>td</code> element, see {@link #td(Object...)}.
+	 * @return this
+	 */
+	public T td(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("td", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>textarea</code> element.
+	 * @return this
+	 */
+	public T textarea(Object...params) {
+	  return $("textarea", params);
+	}
+	/**
+	 * The <code>textarea</code> element, see {@link #textarea(Object...)}.
+	 * @return this
+	 */
+	public T textarea() {
+	  return element("textarea");
+	}
+	/**
+	 * The <code>textarea</code> element, see {@link #textarea(Object...)}.
+	 * @return this
+	 */
+	public T textarea(Object p1, Object p2) {
+	  return element("textarea", p1, p2);
+	}
+	/**
+	 * The <code>textarea</code> element, see {@link #textarea(Object...)}.
+	 * @return this
+	 */
+	public T textarea(Object p1, Object p2, Object p3, Object p4) {
+	  return element("textarea", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>textarea</code> element, see {@link #textarea(Object...)}.
+	 * @return this
+	 */
+	public T textarea(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("textarea", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>tfoot</code> element.
+	 * @return this
+	 */
+	public T tfoot(Object...params) {
+	  return $("tfoot", params);
+	}
+	/**
+	 * The <code>tfoot</code> element, see {@link #tfoot(Object...)}.
+	 * @return this
+	 */
+	public T tfoot() {
+	  return element("tfoot");
+	}
+	/**
+	 * The <code>tfoot</code> element, see {@link #tfoot(Object...)}.
+	 * @return this
+	 */
+	public T tfoot(Object p1, Object p2) {
+	  return element("tfoot", p1, p2);
+	}
+	/**
+	 * The <code>tfoot</code> element, see {@link #tfoot(Object...)}.
+	 * @return this
+	 */
+	public T tfoot(Object p1, Object p2, Object p3, Object p4) {
+	  return element("tfoot", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>tfoot</code> element, see {@link #tfoot(Object...)}.
+	 * @return this
+	 */
+	public T tfoot(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("tfoot", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>th</code> element.
+	 * @return this
+	 */
+	public T th(Object...params) {
+	  return $("th", params);
+	}
+	/**
+	 * The <code>th</code> element, see {@link #th(Object...)}.
+	 * @return this
+	 */
+	public T th() {
+	  return element("th");
+	}
+	/**
+	 * The <code>th</code> element, see {@link #th(Object...)}.
+	 * @return this
+	 */
+	public T th(Object p1, Object p2) {
+	  return element("th", p1, p2);
+	}
+	/**
+	 * The <code>th</code> element, see {@link #th(Object...)}.
+	 * @return this
+	 */
+	public T th(Object p1, Object p2, Object p3, Object p4) {
+	  return element("th", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>th</code> element, see {@link #th(Object...)}.
+	 * @return this
+	 */
+	public T th(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("th", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>thead</code> element.
+	 * @return this
+	 */
+	public T thead(Object...params) {
+	  return $("thead", params);
+	}
+	/**
+	 * The <code>thead</code> element, see {@link #thead(Object...)}.
+	 * @return this
+	 */
+	public T thead() {
+	  return element("thead");
+	}
+	/**
+	 * The <code>thead</code> element, see {@link #thead(Object...)}.
+	 * @return this
+	 */
+	public T thead(Object p1, Object p2) {
+	  return element("thead", p1, p2);
+	}
+	/**
+	 * The <code>thead</code> element, see {@link #thead(Object...)}.
+	 * @return this
+	 */
+	public T thead(Object p1, Object p2, Object p3, Object p4) {
+	  return element("thead", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>thead</code> element, see {@link #thead(Object...)}.
+	 * @return this
+	 */
+	public T thead(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("thead", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>time</code> element.
+	 * @return this
+	 */
+	public T time(Object...params) {
+	  return $("time", params);
+	}
+	/**
+	 * The <code>time</code> element, see {@link #time(Object...)}.
+	 * @return this
+	 */
+	public T time() {
+	  return element("time");
+	}
+	/**
+	 * The <code>time</code> element, see {@link #time(Object...)}.
+	 * @return this
+	 */
+	public T time(Object p1, Object p2) {
+	  return element("time", p1, p2);
+	}
+	/**
+	 * The <code>time</code> element, see {@link #time(Object...)}.
+	 * @return this
+	 */
+	public T time(Object p1, Object p2, Object p3, Object p4) {
+	  return element("time", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>time</code> element, see {@link #time(Object...)}.
+	 * @return this
+	 */
+	public T time(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("time", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>title</code> element.
+	 * @return this
+	 */
+	public T title(Object...params) {
+	  return $("title", params);
+	}
+	/**
+	 * The <code>title</code> element, see {@link #title(Object...)}.
+	 * @return this
+	 */
+	public T title() {
+	  return element("title");
+	}
+	/**
+	 * The <code>title</code> element, see {@link #title(Object...)}.
+	 * @return this
+	 */
+	public T title(Object p1, Object p2) {
+	  return element("title", p1, p2);
+	}
+	/**
+	 * The <code>title</code> element, see {@link #title(Object...)}.
+	 * @return this
+	 */
+	public T title(Object p1, Object p2, Object p3, Object p4) {
+	  return element("title", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>title</code> element, see {@link #title(Object...)}.
+	 * @return this
+	 */
+	public T title(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("title", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>tr</code> element.
+	 * @return this
+	 */
+	public T tr(Object...params) {
+	  return $("tr", params);
+	}
+	/**
+	 * The <code>tr</code> element, see {@link #tr(Object...)}.
+	 * @return this
+	 */
+	public T tr() {
+	  return element("tr");
+	}
+	/**
+	 * The <code>tr</code> element, see {@link #tr(Object...)}.
+	 * @return this
+	 */
+	public T tr(Object p1, Object p2) {
+	  return element("tr", p1, p2);
+	}
+	/**
+	 * The <code>tr</code> element, see {@link #tr(Object...)}.
+	 * @return this
+	 */
+	public T tr(Object p1, Object p2, Object p3, Object p4) {
+	  return element("tr", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>tr</code> element, see {@link #tr(Object...)}.
+	 * @return this
+	 */
+	public T tr(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("tr", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>track</code> element.
+	 * @return this
+	 */
+	public T track(Object...params) {
+	  return $("track", params);
+	}
+	/**
+	 * The <code>track</code> element, see {@link #track(Object...)}.
+	 * @return this
+	 */
+	public T track() {
+	  return element("track");
+	}
+	/**
+	 * The <code>track</code> element, see {@link #track(Object...)}.
+	 * @return this
+	 */
+	public T track(Object p1, Object p2) {
+	  return element("track", p1, p2);
+	}
+	/**
+	 * The <code>track</code> element, see {@link #track(Object...)}.
+	 * @return this
+	 */
+	public T track(Object p1, Object p2, Object p3, Object p4) {
+	  return element("track", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>track</code> element, see {@link #track(Object...)}.
+	 * @return this
+	 */
+	public T track(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("track", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>tt</code> element.
+	 * @return this
+	 */
+	public T tt(Object...params) {
+	  return $("tt", params);
+	}
+	/**
+	 * The <code>tt</code> element, see {@link #tt(Object...)}.
+	 * @return this
+	 */
+	public T tt() {
+	  return element("tt");
+	}
+	/**
+	 * The <code>tt</code> element, see {@link #tt(Object...)}.
+	 * @return this
+	 */
+	public T tt(Object p1, Object p2) {
+	  return element("tt", p1, p2);
+	}
+	/**
+	 * The <code>tt</code> element, see {@link #tt(Object...)}.
+	 * @return this
+	 */
+	public T tt(Object p1, Object p2, Object p3, Object p4) {
+	  return element("tt", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>tt</code> element, see {@link #tt(Object...)}.
+	 * @return this
+	 */
+	public T tt(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("tt", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>u</code> element.
+	 * @return this
+	 */
+	public T u(Object...params) {
+	  return $("u", params);
+	}
+	/**
+	 * The <code>u</code> element, see {@link #u(Object...)}.
+	 * @return this
+	 */
+	public T u() {
+	  return element("u");
+	}
+	/**
+	 * The <code>u</code> element, see {@link #u(Object...)}.
+	 * @return this
+	 */
+	public T u(Object p1, Object p2) {
+	  return element("u", p1, p2);
+	}
+	/**
+	 * The <code>u</code> element, see {@link #u(Object...)}.
+	 * @return this
+	 */
+	public T u(Object p1, Object p2, Object p3, Object p4) {
+	  return element("u", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>u</code> element, see {@link #u(Object...)}.
+	 * @return this
+	 */
+	public T u(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("u", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>ul</code> element.
+	 * @return this
+	 */
+	public T ul(Object...params) {
+	  return $("ul", params);
+	}
+	/**
+	 * The <code>ul</code> element, see {@link #ul(Object...)}.
+	 * @return this
+	 */
+	public T ul() {
+	  return element("ul");
+	}
+	/**
+	 * The <code>ul</code> element, see {@link #ul(Object...)}.
+	 * @return this
+	 */
+	public T ul(Object p1, Object p2) {
+	  return element("ul", p1, p2);
+	}
+	/**
+	 * The <code>ul</code> element, see {@link #ul(Object...)}.
+	 * @return this
+	 */
+	public T ul(Object p1, Object p2, Object p3, Object p4) {
+	  return element("ul", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>ul</code> element, see {@link #ul(Object...)}.
+	 * @return this
+	 */
+	public T ul(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("ul", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>var</code> element.
+	 * @return this
+	 */
+	public T var(Object...params) {
+	  return $("var", params);
+	}
+	/**
+	 * The <code>var</code> element, see {@link #var(Object...)}.
+	 * @return this
+	 */
+	public T var() {
+	  return element("var");
+	}
+	/**
+	 * The <code>var</code> element, see {@link #var(Object...)}.
+	 * @return this
+	 */
+	public T var(Object p1, Object p2) {
+	  return element("var", p1, p2);
+	}
+	/**
+	 * The <code>var</code> element, see {@link #var(Object...)}.
+	 * @return this
+	 */
+	public T var(Object p1, Object p2, Object p3, Object p4) {
+	  return element("var", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>var</code> element, see {@link #var(Object...)}.
+	 * @return this
+	 */
+	public T var(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("var", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>video</code> element.
+	 * @return this
+	 */
+	public T video(Object...params) {
+	  return $("video", params);
+	}
+	/**
+	 * The <code>video</code> element, see {@link #video(Object...)}.
+	 * @return this
+	 */
+	public T video() {
+	  return element("video");
+	}
+	/**
+	 * The <code>video</code> element, see {@link #video(Object...)}.
+	 * @return this
+	 */
+	public T video(Object p1, Object p2) {
+	  return element("video", p1, p2);
+	}
+	/**
+	 * The <code>video</code> element, see {@link #video(Object...)}.
+	 * @return this
+	 */
+	public T video(Object p1, Object p2, Object p3, Object p4) {
+	  return element("video", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>video</code> element, see {@link #video(Object...)}.
+	 * @return this
+	 */
+	public T video(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("video", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * The <code>wbr</code> element.
+	 * @return this
+	 */
+	public T wbr(Object...params) {
+	  return $("wbr", params);
+	}
+	/**
+	 * The <code>wbr</code> element, see {@link #wbr(Object...)}.
+	 * @return this
+	 */
+	public T wbr() {
+	  return element("wbr");
+	}
+	/**
+	 * The <code>wbr</code> element, see {@link #wbr(Object...)}.
+	 * @return this
+	 */
+	public T wbr(Object p1, Object p2) {
+	  return element("wbr", p1, p2);
+	}
+	/**
+	 * The <code>wbr</code> element, see {@link #wbr(Object...)}.
+	 * @return this
+	 */
+	public T wbr(Object p1, Object p2, Object p3, Object p4) {
+	  return element("wbr", p1, p2, p3, p4);
+	}
+	/**
+	 * The <code>wbr</code> element, see {@link #wbr(Object...)}.
+	 * @return this
+	 */
+	public T wbr(Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
+	  return element("wbr", p1, p2, p3, p4, p5, p6);
+	}
+	/**
+	 * Sets the <code>abbr</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T abbrAttr(Object value) {
+	  return attribute("abbr", value);
+	}
+	/**
+	 * Sets the <code>accept</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T accept(Object value) {
+	  return attribute("accept", value);
+	}
+	/**
+	 * Sets the <code>accept-charset</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T acceptCharset(Object value) {
+	  return attribute("accept-charset", value);
+	}
+	/**
+	 * Sets the <code>accesskey</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T accesskey(Object value) {
+	  return attribute("accesskey", value);
+	}
+	/**
+	 * Sets the <code>action</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T action(Object value) {
+	  return attribute("action", value);
+	}
+	/**
+	 * Sets the <code>align</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T align(Object value) {
+	  return attribute("align", value);
+	}
+	/**
+	 * Sets the <code>alt</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T alt(Object value) {
+	  return attribute("alt", value);
+	}
+	/**
+	 * Sets the <code>archive</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T archive(Object value) {
+	  return attribute("archive", value);
+	}
+	/**
+	 * Sets the <code>async</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T async(Object value) {
+	  return attribute("async", value);
+	}
+	/**
+	 * Sets the <code>autocomplete</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T autocomplete(Object value) {
+	  return attribute("autocomplete", value);
+	}
+	/**
+	 * Sets the <code>autofocus</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T autofocus(Object value) {
+	  return attribute("autofocus", value);
+	}
+	/**
+	 * Sets the <code>autoplay</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T autoplay(Object value) {
+	  return attribute("autoplay", value);
+	}
+	/**
+	 * Sets the <code>axis</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T axis(Object value) {
+	  return attribute("axis", value);
+	}
+	/**
+	 * Sets the <code>border</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T border(Object value) {
+	  return attribute("border", value);
+	}
+	/**
+	 * Sets the <code>cellpadding</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T cellpadding(Object value) {
+	  return attribute("cellpadding", value);
+	}
+	/**
+	 * Sets the <code>cellspacing</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T cellspacing(Object value) {
+	  return attribute("cellspacing", value);
+	}
+	/**
+	 * Sets the <code>challenge</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T challenge(Object value) {
+	  return attribute("challenge", value);
+	}
+	/**
+	 * Sets the <code>char</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T charr(Object value) {
+	  return attribute("char", value);
+	}
+	/**
+	 * Sets the <code>charoff</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T charoff(Object value) {
+	  return attribute("charoff", value);
+	}
+	/**
+	 * Sets the <code>charset</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T charset(Object value) {
+	  return attribute("charset", value);
+	}
+	/**
+	 * Sets the <code>checked</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T checked(Object value) {
+	  return attribute("checked", value);
+	}
+	/**
+	 * Sets the <code>cite</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T citeAttr(Object value) {
+	  return attribute("cite", value);
+	}
+	/**
+	 * Sets the <code>class</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T classs(Object value) {
+	  return attribute("class", value);
+	}
+	/**
+	 * Sets the <code>classid</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T classid(Object value) {
+	  return attribute("classid", value);
+	}
+	/**
+	 * Sets the <code>codebase</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T codebase(Object value) {
+	  return attribute("codebase", value);
+	}
+	/**
+	 * Sets the <code>codetype</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T codetype(Object value) {
+	  return attribute("codetype", value);
+	}
+	/**
+	 * Sets the <code>cols</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T cols(Object value) {
+	  return attribute("cols", value);
+	}
+	/**
+	 * Sets the <code>colspan</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T colspan(Object value) {
+	  return attribute("colspan", value);
+	}
+	/**
+	 * Sets the <code>content</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T content(Object value) {
+	  return attribute("content", value);
+	}
+	/**
+	 * Sets the <code>contenteditable</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T contenteditable(Object value) {
+	  return attribute("contenteditable", value);
+	}
+	/**
+	 * Sets the <code>contextmenu</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T contextmenu(Object value) {
+	  return attribute("contextmenu", value);
+	}
+	/**
+	 * Sets the <code>controls</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T controls(Object value) {
+	  return attribute("controls", value);
+	}
+	/**
+	 * Sets the <code>coords</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T coords(Object value) {
+	  return attribute("coords", value);
+	}
+	/**
+	 * Sets the <code>data</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T data(Object value) {
+	  return attribute("data", value);
+	}
+	/**
+	 * Sets the <code>datetime</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T datetime(Object value) {
+	  return attribute("datetime", value);
+	}
+	/**
+	 * Sets the <code>declare</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T declare(Object value) {
+	  return attribute("declare", value);
+	}
+	/**
+	 * Sets the <code>default</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T defaultt(Object value) {
+	  return attribute("default", value);
+	}
+	/**
+	 * Sets the <code>defer</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T defer(Object value) {
+	  return attribute("defer", value);
+	}
+	/**
+	 * Sets the <code>dir</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T dir(Object value) {
+	  return attribute("dir", value);
+	}
+	/**
+	 * Sets the <code>dirname</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T dirname(Object value) {
+	  return attribute("dirname", value);
+	}
+	/**
+	 * Sets the <code>disabled</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T disabled(Object value) {
+	  return attribute("disabled", value);
+	}
+	/**
+	 * Sets the <code>draggable</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T draggable(Object value) {
+	  return attribute("draggable", value);
+	}
+	/**
+	 * Sets the <code>dropzone</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T dropzone(Object value) {
+	  return attribute("dropzone", value);
+	}
+	/**
+	 * Sets the <code>enctype</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T enctype(Object value) {
+	  return attribute("enctype", value);
+	}
+	/**
+	 * Sets the <code>for</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T forr(Object value) {
+	  return attribute("for", value);
+	}
+	/**
+	 * Sets the <code>form</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T formAttr(Object value) {
+	  return attribute("form", value);
+	}
+	/**
+	 * Sets the <code>formaction</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T formaction(Object value) {
+	  return attribute("formaction", value);
+	}
+	/**
+	 * Sets the <code>formenctype</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T formenctype(Object value) {
+	  return attribute("formenctype", value);
+	}
+	/**
+	 * Sets the <code>formmethod</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T formmethod(Object value) {
+	  return attribute("formmethod", value);
+	}
+	/**
+	 * Sets the <code>formnovalidate</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T formnovalidate(Object value) {
+	  return attribute("formnovalidate", value);
+	}
+	/**
+	 * Sets the <code>formtarget</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T formtarget(Object value) {
+	  return attribute("formtarget", value);
+	}
+	/**
+	 * Sets the <code>frame</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T frame(Object value) {
+	  return attribute("frame", value);
+	}
+	/**
+	 * Sets the <code>headers</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T headers(Object value) {
+	  return attribute("headers", value);
+	}
+	/**
+	 * Sets the <code>height</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T height(Object value) {
+	  return attribute("height", value);
+	}
+	/**
+	 * Sets the <code>hidden</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T hidden(Object value) {
+	  return attribute("hidden", value);
+	}
+	/**
+	 * Sets the <code>high</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T high(Object value) {
+	  return attribute("high", value);
+	}
+	/**
+	 * Sets the <code>href</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T href(Object value) {
+	  return attribute("href", value);
+	}
+	/**
+	 * Sets the <code>hreflang</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T hreflang(Object value) {
+	  return attribute("hreflang", value);
+	}
+	/**
+	 * Sets the <code>http-equiv</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T httpEquiv(Object value) {
+	  return attribute("http-equiv", value);
+	}
+	/**
+	 * Sets the <code>icon</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T icon(Object value) {
+	  return attribute("icon", value);
+	}
+	/**
+	 * Sets the <code>id</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T id(Object value) {
+	  return attribute("id", value);
+	}
+	/**
+	 * Sets the <code>ismap</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ismap(Object value) {
+	  return attribute("ismap", value);
+	}
+	/**
+	 * Sets the <code>keytype</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T keytype(Object value) {
+	  return attribute("keytype", value);
+	}
+	/**
+	 * Sets the <code>kind</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T kind(Object value) {
+	  return attribute("kind", value);
+	}
+	/**
+	 * Sets the <code>label</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T labelAttr(Object value) {
+	  return attribute("label", value);
+	}
+	/**
+	 * Sets the <code>lang</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T lang(Object value) {
+	  return attribute("lang", value);
+	}
+	/**
+	 * Sets the <code>list</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T listAttr(Object value) {
+	  return attribute("list", value);
+	}
+	/**
+	 * Sets the <code>longdesc</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T longdesc(Object value) {
+	  return attribute("longdesc", value);
+	}
+	/**
+	 * Sets the <code>loop</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T loop(Object value) {
+	  return attribute("loop", value);
+	}
+	/**
+	 * Sets the <code>low</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T low(Object value) {
+	  return attribute("low", value);
+	}
+	/**
+	 * Sets the <code>manifest</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T manifest(Object value) {
+	  return attribute("manifest", value);
+	}
+	/**
+	 * Sets the <code>max</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T max(Object value) {
+	  return attribute("max", value);
+	}
+	/**
+	 * Sets the <code>maxlength</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T maxlength(Object value) {
+	  return attribute("maxlength", value);
+	}
+	/**
+	 * Sets the <code>media</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T media(Object value) {
+	  return attribute("media", value);
+	}
+	/**
+	 * Sets the <code>mediagroup</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T mediagroup(Object value) {
+	  return attribute("mediagroup", value);
+	}
+	/**
+	 * Sets the <code>method</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T method(Object value) {
+	  return attribute("method", value);
+	}
+	/**
+	 * Sets the <code>min</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T min(Object value) {
+	  return attribute("min", value);
+	}
+	/**
+	 * Sets the <code>multiple</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T multiple(Object value) {
+	  return attribute("multiple", value);
+	}
+	/**
+	 * Sets the <code>muted</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T muted(Object value) {
+	  return attribute("muted", value);
+	}
+	/**
+	 * Sets the <code>name</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T name(Object value) {
+	  return attribute("name", value);
+	}
+	/**
+	 * Sets the <code>nohref</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T nohref(Object value) {
+	  return attribute("nohref", value);
+	}
+	/**
+	 * Sets the <code>novalidate</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T novalidate(Object value) {
+	  return attribute("novalidate", value);
+	}
+	/**
+	 * Sets the <code>onabort</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onabort(Object value) {
+	  return attribute("onabort", value);
+	}
+	/**
+	 * Sets the <code>onafterprint</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onafterprint(Object value) {
+	  return attribute("onafterprint", value);
+	}
+	/**
+	 * Sets the <code>onbeforeprint</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onbeforeprint(Object value) {
+	  return attribute("onbeforeprint", value);
+	}
+	/**
+	 * Sets the <code>onbeforeunload</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onbeforeunload(Object value) {
+	  return attribute("onbeforeunload", value);
+	}
+	/**
+	 * Sets the <code>onblur</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onblur(Object value) {
+	  return attribute("onblur", value);
+	}
+	/**
+	 * Sets the <code>oncanplay</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T oncanplay(Object value) {
+	  return attribute("oncanplay", value);
+	}
+	/**
+	 * Sets the <code>oncanplaythrough</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T oncanplaythrough(Object value) {
+	  return attribute("oncanplaythrough", value);
+	}
+	/**
+	 * Sets the <code>onchange</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onchange(Object value) {
+	  return attribute("onchange", value);
+	}
+	/**
+	 * Sets the <code>onclick</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onclick(Object value) {
+	  return attribute("onclick", value);
+	}
+	/**
+	 * Sets the <code>oncontextmenu</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T oncontextmenu(Object value) {
+	  return attribute("oncontextmenu", value);
+	}
+	/**
+	 * Sets the <code>ondblclick</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondblclick(Object value) {
+	  return attribute("ondblclick", value);
+	}
+	/**
+	 * Sets the <code>ondrag</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondrag(Object value) {
+	  return attribute("ondrag", value);
+	}
+	/**
+	 * Sets the <code>ondragend</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondragend(Object value) {
+	  return attribute("ondragend", value);
+	}
+	/**
+	 * Sets the <code>ondragenter</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondragenter(Object value) {
+	  return attribute("ondragenter", value);
+	}
+	/**
+	 * Sets the <code>ondragleave</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondragleave(Object value) {
+	  return attribute("ondragleave", value);
+	}
+	/**
+	 * Sets the <code>ondragover</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondragover(Object value) {
+	  return attribute("ondragover", value);
+	}
+	/**
+	 * Sets the <code>ondragstart</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondragstart(Object value) {
+	  return attribute("ondragstart", value);
+	}
+	/**
+	 * Sets the <code>ondrop</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondrop(Object value) {
+	  return attribute("ondrop", value);
+	}
+	/**
+	 * Sets the <code>ondurationchange</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T ondurationchange(Object value) {
+	  return attribute("ondurationchange", value);
+	}
+	/**
+	 * Sets the <code>onemptied</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onemptied(Object value) {
+	  return attribute("onemptied", value);
+	}
+	/**
+	 * Sets the <code>onended</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onended(Object value) {
+	  return attribute("onended", value);
+	}
+	/**
+	 * Sets the <code>onerror</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onerror(Object value) {
+	  return attribute("onerror", value);
+	}
+	/**
+	 * Sets the <code>onfocus</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onfocus(Object value) {
+	  return attribute("onfocus", value);
+	}
+	/**
+	 * Sets the <code>onhashchange</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onhashchange(Object value) {
+	  return attribute("onhashchange", value);
+	}
+	/**
+	 * Sets the <code>oninput</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T oninput(Object value) {
+	  return attribute("oninput", value);
+	}
+	/**
+	 * Sets the <code>oninvalid</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T oninvalid(Object value) {
+	  return attribute("oninvalid", value);
+	}
+	/**
+	 * Sets the <code>onkeydown</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onkeydown(Object value) {
+	  return attribute("onkeydown", value);
+	}
+	/**
+	 * Sets the <code>onkeypress</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onkeypress(Object value) {
+	  return attribute("onkeypress", value);
+	}
+	/**
+	 * Sets the <code>onkeyup</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onkeyup(Object value) {
+	  return attribute("onkeyup", value);
+	}
+	/**
+	 * Sets the <code>onload</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onload(Object value) {
+	  return attribute("onload", value);
+	}
+	/**
+	 * Sets the <code>onloadeddata</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onloadeddata(Object value) {
+	  return attribute("onloadeddata", value);
+	}
+	/**
+	 * Sets the <code>onloadedmetadata</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onloadedmetadata(Object value) {
+	  return attribute("onloadedmetadata", value);
+	}
+	/**
+	 * Sets the <code>onloadstart</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onloadstart(Object value) {
+	  return attribute("onloadstart", value);
+	}
+	/**
+	 * Sets the <code>onmessage</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onmessage(Object value) {
+	  return attribute("onmessage", value);
+	}
+	/**
+	 * Sets the <code>onmousedown</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onmousedown(Object value) {
+	  return attribute("onmousedown", value);
+	}
+	/**
+	 * Sets the <code>onmousemove</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onmousemove(Object value) {
+	  return attribute("onmousemove", value);
+	}
+	/**
+	 * Sets the <code>onmouseout</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T onmouseout(Object value) {
+	  return attribute("onmouseout", value);
 	}
 	/**
-	 * The <code>optgroup</code> element.
+	 * Sets the <code>onmouseover</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T optgroup(Object...params) {
-	  return $("optgroup", params);
+	public T onmouseover(Object value) {
+	  return attribute("onmouseover", value);
 	}
 	/**
-	 * The <code>option</code> element.
+	 * Sets the <code>onmouseup</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T option(Object...params) {
-	  return $("option", params);
+	public T onmouseup(Object value) {
+	  return attribute("onmouseup", value);
 	}
 	/**
-	 * The <code>output</code> element.
+	 * Sets the <code>onmousewheel</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T output(Object...params) {
-	  return $("output", params);
+	public T onmousewheel(Object value) {
+	  return attribute("onmousewheel", value);
 	}
 	/**
-	 * The <code>p</code> element.
+	 * Sets the <code>onoffline</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T p(Object...params) {
-	  return $("p", params);
+	public T onoffline(Object value) {
+	  return attribute("onoffline", value);
 	}
 	/**
-	 * The <code>param</code> element.
+	 * Sets the <code>ononline</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T param(Object...params) {
-	  return $("param", params);
+	public T ononline(Object value) {
+	  return attribute("ononline", value);
 	}
 	/**
-	 * The <code>path</code> element.
+	 * Sets the <code>onpause</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T path(Object...params) {
-	  return $("path", params);
+	public T onpause(Object value) {
+	  return attribute("onpause", value);
 	}
 	/**
-	 * The <code>pre</code> element.
+	 * Sets the <code>onplay</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T pre(Object...params) {
-	  return $("pre", params);
+	public T onplay(Object value) {
+	  return attribute("onplay", value);
 	}
 	/**
-	 * The <code>progress</code> element.
+	 * Sets the <code>onplaying</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T progress(Object...params) {
-	  return $("progress", params);
+	public T onplaying(Object value) {
+	  return attribute("onplaying", value);
 	}
 	/**
-	 * The <code>q</code> element.
+	 * Sets the <code>onpopstate</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T q(Object...params) {
-	  return $("q", params);
+	public T onpopstate(Object value) {
+	  return attribute("onpopstate", value);
 	}
 	/**
-	 * The <code>rp</code> element.
+	 * Sets the <code>onprogress</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T rp(Object...params) {
-	  return $("rp", params);
+	public T onprogress(Object value) {
+	  return attribute("onprogress", value);
 	}
 	/**
-	 * The <code>rt</code> element.
+	 * Sets the <code>onratechange</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T rt(Object...params) {
-	  return $("rt", params);
+	public T onratechange(Object value) {
+	  return attribute("onratechange", value);
 	}
 	/**
-	 * The <code>ruby</code> element.
+	 * Sets the <code>onreadystatechange</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T ruby(Object...params) {
-	  return $("ruby", params);
+	public T onreadystatechange(Object value) {
+	  return attribute("onreadystatechange", value);
 	}
 	/**
-	 * The <code>s</code> element.
+	 * Sets the <code>onredo</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T s(Object...params) {
-	  return $("s", params);
+	public T onredo(Object value) {
+	  return attribute("onredo", value);
 	}
 	/**
-	 * The <code>samp</code> element.
+	 * Sets the <code>onreset</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T samp(Object...params) {
-	  return $("samp", params);
+	public T onreset(Object value) {
+	  return attribute("onreset", value);
 	}
 	/**
-	 * The <code>script</code> element.
+	 * Sets the <code>onresize</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T script(Object...params) {
-	  return $("script", params);
+	public T onresize(Object value) {
+	  return attribute("onresize", value);
 	}
 	/**
-	 * The <code>section</code> element.
+	 * Sets the <code>onscroll</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T section(Object...params) {
-	  return $("section", params);
+	public T onscroll(Object value) {
+	  return attribute("onscroll", value);
 	}
 	/**
-	 * The <code>select</code> element.
+	 * Sets the <code>onseeked</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T select(Object...params) {
-	  return $("select", params);
+	public T onseeked(Object value) {
+	  return attribute("onseeked", value);
 	}
 	/**
-	 * The <code>small</code> element.
+	 * Sets the <code>onseeking</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T small(Object...params) {
-	  return $("small", params);
+	public T onseeking(Object value) {
+	  return attribute("onseeking", value);
 	}
 	/**
-	 * The <code>source</code> element.
+	 * Sets the <code>onselect</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T source(Object...params) {
-	  return $("source", params);
+	public T onselect(Object value) {
+	  return attribute("onselect", value);
 	}
 	/**
-	 * The <code>span</code> element.
+	 * Sets the <code>onshow</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T span(Object...params) {
-	  return $("span", params);
+	public T onshow(Object value) {
+	  return attribute("onshow", value);
 	}
 	/**
-	 * The <code>strong</code> element.
+	 * Sets the <code>onstalled</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T strong(Object...params) {
-	  return $("strong", params);
+	public T onstalled(Object value) {
+	  return attribute("onstalled", value);
 	}
 	/**
-	 * The <code>style</code> element.
+	 * Sets the <code>onstorage</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T style(Object...params) {
-	  return $("style", params);
+	public T onstorage(Object value) {
+	  return attribute("onstorage", value);
 	}
 	/**
-	 * The <code>sub</code> element.
+	 * Sets the <code>onsubmit</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T sub(Object...params) {
-	  return $("sub", params);
+	public T onsubmit(Object value) {
+	  return attribute("onsubmit", value);
 	}
 	/**
-	 * The <code>summary</code> element.
+	 * Sets the <code>onsuspend</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T summary(Object...params) {
-	  return $("summary", params);
+	public T onsuspend(Object value) {
+	  return attribute("onsuspend", value);
 	}
 	/**
-	 * The <code>sup</code> element.
+	 * Sets the <code>ontimeupdate</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T sup(Object...params) {
-	  return $("sup", params);
+	public T ontimeupdate(Object value) {
+	  return attribute("ontimeupdate", value);
 	}
 	/**
-	 * The <code>svg</code> element.
+	 * Sets the <code>onundo</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T svg(Object...params) {
-	  return $("svg", params);
+	public T onundo(Object value) {
+	  return attribute("onundo", value);
 	}
 	/**
-	 * The <code>table</code> element.
+	 * Sets the <code>onunload</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T table(Object...params) {
-	  return $("table", params);
+	public T onunload(Object value) {
+	  return attribute("onunload", value);
 	}
 	/**
-	 * The <code>tbody</code> element.
+	 * Sets the <code>onvolumechange</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T tbody(Object...params) {
-	  return $("tbody", params);
+	public T onvolumechange(Object value) {
+	  return attribute("onvolumechange", value);
 	}
 	/**
-	 * The <code>td</code> element.
+	 * Sets the <code>onwaiting</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T td(Object...params) {
-	  return $("td", params);
+	public T onwaiting(Object value) {
+	  return attribute("onwaiting", value);
 	}
 	/**
-	 * The <code>textarea</code> element.
+	 * Sets the <code>open</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T textarea(Object...params) {
-	  return $("textarea", params);
+	public T open(Object value) {
+	  return attribute("open", value);
 	}
 	/**
-	 * The <code>tfoot</code> element.
+	 * Sets the <code>optimum</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T tfoot(Object...params) {
-	  return $("tfoot", params);
+	public T optimum(Object value) {
+	  return attribute("optimum", value);
 	}
 	/**
-	 * The <code>th</code> element.
+	 * Sets the <code>pattern</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T th(Object...params) {
-	  return $("th", params);
+	public T pattern(Object value) {
+	  return attribute("pattern", value);
 	}
 	/**
-	 * The <code>thead</code> element.
+	 * Sets the <code>placeholder</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T thead(Object...params) {
-	  return $("thead", params);
+	public T placeholder(Object value) {
+	  return attribute("placeholder", value);
 	}
 	/**
-	 * The <code>time</code> element.
+	 * Sets the <code>poster</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T time(Object...params) {
-	  return $("time", params);
+	public T poster(Object value) {
+	  return attribute("poster", value);
 	}
 	/**
-	 * The <code>title</code> element.
+	 * Sets the <code>preload</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T title(Object...params) {
-	  return $("title", params);
+	public T preload(Object value) {
+	  return attribute("preload", value);
 	}
 	/**
-	 * The <code>tr</code> element.
+	 * Sets the <code>profile</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T tr(Object...params) {
-	  return $("tr", params);
+	public T profile(Object value) {
+	  return attribute("profile", value);
 	}
 	/**
-	 * The <code>track</code> element.
+	 * Sets the <code>radiogroup</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T track(Object...params) {
-	  return $("track", params);
+	public T radiogroup(Object value) {
+	  return attribute("radiogroup", value);
 	}
 	/**
-	 * The <code>tt</code> element.
+	 * Sets the <code>readonly</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T tt(Object...params) {
-	  return $("tt", params);
+	public T readonly(Object value) {
+	  return attribute("readonly", value);
 	}
 	/**
-	 * The <code>u</code> element.
+	 * Sets the <code>rel</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T u(Object...params) {
-	  return $("u", params);
+	public T rel(Object value) {
+	  return attribute("rel", value);
 	}
 	/**
-	 * The <code>ul</code> element.
+	 * Sets the <code>required</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T ul(Object...params) {
-	  return $("ul", params);
+	public T required(Object value) {
+	  return attribute("required", value);
 	}
 	/**
-	 * The <code>var</code> element.
+	 * Sets the <code>rev</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T var(Object...params) {
-	  return $("var", params);
+	public T rev(Object value) {
+	  return attribute("rev", value);
 	}
 	/**
-	 * The <code>video</code> element.
+	 * Sets the <code>reversed</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T video(Object...params) {
-	  return $("video", params);
+	public T reversed(Object value) {
+	  return attribute("reversed", value);
 	}
 	/**
-	 * The <code>wbr</code> element.
+	 * Sets the <code>rows</code> attribute of the element just started.
 	 * @return this
 	 */
-	public T wbr(Object...params) {
-	  return $("wbr", params);
+	public T rows(Object value) {
+	  return attribute("rows", value);
+	}
+	/**
+	 * Sets the <code>rowspan</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T rowspan(Object value) {
+	  return attribute("rowspan", value);
+	}
+	/**
+	 * Sets the <code>rules</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T rules(Object value) {
+	  return attribute("rules", value);
+	}
+	/**
+	 * Sets the <code>sandbox</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T sandbox(Object value) {
+	  return attribute("sandbox", value);
+	}
+	/**
+	 * Sets the <code>scheme</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T scheme(Object value) {
+	  return attribute("scheme", value);
+	}
+	/**
+	 * Sets the <code>scope</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T scope(Object value) {
+	  return attribute("scope", value);
+	}
+	/**
+	 * Sets the <code>scoped</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T scoped(Object value) {
+	  return attribute("scoped", value);
+	}
+	/**
+	 * Sets the <code>seamless</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T seamless(Object value) {
+	  return attribute("seamless", value);
+	}
+	/**
+	 * Sets the <code>selected</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T selected(Object value) {
+	  return attribute("selected", value);
+	}
+	/**
+	 * Sets the <code>shape</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T shape(Object value) {
+	  return attribute("shape", value);
+	}
+	/**
+	 * Sets the <code>size</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T size(Object value) {
+	  return attribute("size", value);
+	}
+	/**
+	 * Sets the <code>sizes</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T sizes(Object value) {
+	  return attribute("sizes", value);
+	}
+	/**
+	 * Sets the <code>span</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T spanAttr(Object value) {
+	  return attribute("span", value);
+	}
+	/**
+	 * Sets the <code>spellcheck</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T spellcheck(Object value) {
+	  return attribute("spellcheck", value);
+	}
+	/**
+	 * Sets the <code>src</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T src(Object value) {
+	  return attribute("src", value);
+	}
+	/**
+	 * Sets the <code>srcdoc</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T srcdoc(Object value) {
+	  return attribute("srcdoc", value);
+	}
+	/**
+	 * Sets the <code>srclang</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T srclang(Object value) {
+	  return attribute("srclang", value);
+	}
+	/**
+	 * Sets the <code>standby</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T standby(Object value) {
+	  return attribute("standby", value);
+	}
+	/**
+	 * Sets the <code>start</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T start(Object value) {
+	  return attribute("start", value);
+	}
+	/**
+	 * Sets the <code>step</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T step(Object value) {
+	  return attribute("step", value);
+	}
+	/**
+	 * Sets the <code>style</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T styleAttr(Object value) {
+	  return attribute("style", value);
+	}
+	/**
+	 * Sets the <code>summary</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T summaryAttr(Object value) {
+	  return attribute("summary", value);
+	}
+	/**
+	 * Sets the <code>tabindex</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T tabindex(Object value) {
+	  return attribute("tabindex", value);
+	}
+	/**
+	 * Sets the <code>target</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T target(Object value) {
+	  return attribute("target", value);
+	}
+	/**
+	 * Sets the <code>title</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T titleAttr(Object value) {
+	  return attribute("title", value);
+	}
+	/**
+	 * Sets the <code>type</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T type(Object value) {
+	  return attribute("type", value);
+	}
+	/**
+	 * Sets the <code>usemap</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T usemap(Object value) {
+	  return attribute("usemap", value);
+	}
+	/**
+	 * Sets the <code>valign</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T valign(Object value) {
+	  return attribute("valign", value);
+	}
+	/**
+	 * Sets the <code>value</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T value(Object value) {
+	  return attribute("value", value);
+	}
+	/**
+	 * Sets the <code>valuetype</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T valuetype(Object value) {
+	  return attribute("valuetype", value);
+	}
+	/**
+	 * Sets the <code>width</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T width(Object value) {
+	  return attribute("width", value);
+	}
+	/**
+	 * Sets the <code>wrap</code> attribute of the element just started.
+	 * @return this
+	 */
+	public T wrap(Object value) {
+	  return attribute("wrap", value);
 	}
 }
@@ -0,0 +1,101 @@
+package hyperml.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes to a file through a window of it mapped into memory, see
+ * {@link BaseMl#build(Path)}.
+ * <p>
+ * When the window is full, the next one is mapped, growing the file by the size
+ * of the window. {@link #close()} truncates the file to the bytes written.
+ * Flushing does not force the pages to disk, leaving write-back to the OS.
+ * <p>
+ * Java has no portable way to unmap a window: one is unmapped only once its
+ * buffer has been garbage collected. A window is dropped when it is done with
+ * and never touched again; its pages are part of the file already. Where the OS
+ * refuses to truncate a file that is still mapped (Windows), the truncation
+ * fails until the garbage collector has unmapped the last window.
+ *
+ * @author krizz
+ */
+final class MappedOutput extends OutputStream {
+
+	static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * Size of the buffer {@link Utf8Sink} encodes into before copying to the
+	 * window.
+	 */
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	private final FileChannel channel;
+	private final int windowSize;
+	private MappedByteBuffer window;
+	private long windowStart;
+
+	MappedOutput(Path path) throws IOException {
+		this(path, DEFAULT_WINDOW_SIZE);
+	}
+
+	MappedOutput(Path path, int windowSize) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * @return number of bytes written
+	 */
+	long size() {
+		return window == null ? windowStart : windowStart + window.position();
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			if (window == null || !window.hasRemaining()) {
+				slide();
+			}
+			int n = Math.min(len, window.remaining());
+			window.put(b, off, n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	private void slide() throws IOException {
+		release();
+		window = channel.map(MapMode.READ_WRITE, windowStart, windowSize);
+	}
+
+	/**
+	 * Drops the current window, leaving the unmapping to the garbage collector.
+	 */
+	private void release() {
+		if (window != null) {
+			windowStart = size();
+			window = null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			release();
+			channel.truncate(windowStart);
+		} finally {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package hyperml.base;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.Deflater;
+
+/**
+ * A pre-encoded markup fragment such as <code>&lt;div</code>,
+ * <code>&lt;/div&gt;</code> or <code> class="</code>.
+ * <p>
+ * Holds the fragment both as chars and as UTF-8 bytes, so that it can be
+ * emitted with a single bulk copy to character and byte targets alike.
+ * 
+ * @author krizz
+ */
+public final class Markup {
+
+	/**
+	 * Returns the pre-encoded fragment for the given text.
+	 * 
+	 * @param text The fragment
+	 * @return Markup
+	 */
+	public static Markup of(String text) {
+		return new Markup(text);
+	}
+
+	final String text;
+	final char[] chars;
+	final byte[] utf8;
+
+	/**
+	 * Raw deflate forms by level, see {@link #deflated(int)}.
+	 */
+	private volatile AtomicReferenceArray<byte[]> deflated;
+
+	private Markup(String text) {
+		this.text = text;
+		this.chars = text.toCharArray();
+		this.utf8 = text.getBytes(UTF_8);
+	}
+
+	/**
+	 * Returns the fragment as raw deflate blocks that decode on their own, to be
+	 * spliced into a compressed stream, see {@link DeflateStream}. Computed on
+	 * first use per level.
+	 * 
+	 * @param level deflate level, or {@link Deflater#DEFAULT_COMPRESSION}
+	 */
+	byte[] deflated(int level) {
+		if (level == Deflater.DEFAULT_COMPRESSION) {
+			level = 6;
+		}
+		AtomicReferenceArray<byte[]> byLevel = deflated;
+		if (byLevel == null) {
+			byLevel = new AtomicReferenceArray<>(Deflater.BEST_COMPRESSION + 1);
+			deflated = byLevel;
+		}
+		// a race computes the same bytes twice at worst
+		byte[] d = byLevel.get(level);
+		if (d == null) {
+			d = DeflateStream.deflateFragment(utf8, level);
+			byLevel.set(level, d);
+		}
+		return d;
+	}
+
+	/**
+	 * @return number of chars
+	 */
+	public int length() {
+		return chars.length;
+	}
+
+	@Override
+	public String toString() {
+		return text;
+	}
+}
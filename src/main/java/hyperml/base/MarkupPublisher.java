@@ -0,0 +1,194 @@
+package hyperml.base;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Publishes a document as UTF-8 encoded chunks, honoring the demand of its
+ * subscribers, see {@link BaseMl#toPublisher()}.
+ * <p>
+ * The interfaces mirror <code>java.util.concurrent.Flow</code>, which is not
+ * available on Java 8, and adapt to it or to Reactive Streams one-to-one.
+ * <p>
+ * Each subscription renders the document anew on the document's
+ * {@link BaseMl#renderExecutor()}, starting with the first request. Whenever a
+ * chunk is ready but there is no demand, the render waits until there is.
+ * Cancelling a subscription aborts its render.
+ *
+ * @author krizz
+ */
+public final class MarkupPublisher {
+
+	/**
+	 * Receives the chunks of a document.
+	 */
+	public interface Subscriber {
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * @param chunk next chunk, owned by the subscriber
+		 */
+		void onNext(ByteBuffer chunk);
+
+		void onError(Throwable throwable);
+
+		void onComplete();
+	}
+
+	/**
+	 * Link between a publisher and a subscriber.
+	 */
+	public interface Subscription {
+		/**
+		 * Adds the given number of chunks to the demand.
+		 *
+		 * @param n positive number of chunks
+		 */
+		void request(long n);
+
+		void cancel();
+	}
+
+	private final BaseMl<?> document;
+	private final Executor executor;
+	private final int chunkSize;
+
+	MarkupPublisher(BaseMl<?> document, Executor executor, int chunkSize) {
+		this.document = document;
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Renders the document for the given subscriber.
+	 *
+	 * @param subscriber receives the chunks
+	 */
+	public void subscribe(Subscriber subscriber) {
+		RenderSubscription subscription = new RenderSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * Thrown within the render to abort it after cancellation.
+	 */
+	private static final class Cancelled extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		Cancelled() {
+			super(null, null, false, false);
+		}
+	}
+
+	private final class RenderSubscription extends OutputStream implements Subscription {
+		private final Subscriber subscriber;
+		private long demand;
+		private boolean started;
+		private boolean cancelled;
+		private Throwable invalidRequest;
+
+		RenderSubscription(Subscriber subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			boolean start;
+			synchronized (this) {
+				if (cancelled) {
+					return;
+				}
+				if (n <= 0) {
+					cancelled = true;
+					invalidRequest = new IllegalArgumentException("non-positive request: " + n);
+					notifyAll();
+					if (started) {
+						// signalled by the render
+						return;
+					}
+					start = false;
+				} else {
+					demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+					notifyAll();
+					start = !started;
+					started = true;
+				}
+			}
+			if (start) {
+				executor.execute(this::render);
+			} else if (invalidRequest != null) {
+				subscriber.onError(invalidRequest);
+			}
+		}
+
+		@Override
+		public synchronized void cancel() {
+			cancelled = true;
+			notifyAll();
+		}
+
+		private void render() {
+			Throwable error = null;
+			try {
+				document.buildUtf8(this, chunkSize);
+			} catch (Cancelled e) {
+				// aborted
+			} catch (RuntimeException | Error e) {
+				error = e;
+			}
+			Throwable invalid;
+			boolean wasCancelled;
+			synchronized (this) {
+				invalid = invalidRequest;
+				wasCancelled = cancelled;
+			}
+			if (invalid != null) {
+				subscriber.onError(invalid);
+			} else if (!wasCancelled) {
+				if (error == null) {
+					subscriber.onComplete();
+				} else {
+					subscriber.onError(error);
+				}
+			}
+		}
+
+		private void awaitDemand() {
+			synchronized (this) {
+				boolean interrupted = false;
+				while (demand == 0 && !cancelled) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						interrupted = true;
+						cancelled = true;
+					}
+				}
+				if (interrupted) {
+					Thread.currentThread()
+							.interrupt();
+				}
+				if (cancelled) {
+					throw new Cancelled();
+				}
+				demand--;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			if (len == 0) {
+				return;
+			}
+			awaitDemand();
+			subscriber.onNext(ByteBuffer.wrap(Arrays.copyOfRange(b, off, off + len)));
+		}
+
+		@Override
+		public void write(int b) {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package hyperml.base;
+
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Destination of the markup written by {@link BaseMl}.
+ * <p>
+ * Implementations are expected to buffer and to pass the output on in large
+ * chunks. Write errors are reported as unchecked exceptions, usually a
+ * {@link hyperml.HyperMlException}.
+ * 
+ * @author krizz
+ */
+public interface MarkupSink {
+
+	/**
+	 * Returns a sink that combines writes in a char buffer in front of the given
+	 * writer.
+	 * 
+	 * @param writer destination
+	 * @return sink
+	 */
+	static MarkupSink to(Writer writer) {
+		return new AppendableSink(writer);
+	}
+
+	/**
+	 * Returns a sink that combines writes in a char buffer in front of the given
+	 * appendable. A {@link StringBuilder} is written to directly.
+	 * 
+	 * @param appendable destination
+	 * @return sink
+	 */
+	static MarkupSink to(Appendable appendable) {
+		return appendable instanceof StringBuilder ? new BuilderSink((StringBuilder) appendable) : new AppendableSink(appendable);
+	}
+
+	/**
+	 * Returns a sink that encodes UTF-8 into a byte buffer in front of the given
+	 * stream.
+	 * 
+	 * @param out destination
+	 * @return sink
+	 */
+	static MarkupSink to(OutputStream out) {
+		return new Utf8Sink(out);
+	}
+
+	/**
+	 * Writes a range of chars.
+	 * 
+	 * @param chars source
+	 * @param off   start offset
+	 * @param len   number of chars
+	 */
+	void write(char[] chars, int off, int len);
+
+	/**
+	 * Writes a range of chars.
+	 * 
+	 * @param s   source
+	 * @param off start offset
+	 * @param len number of chars
+	 */
+	void write(CharSequence s, int off, int len);
+
+	/**
+	 * Writes all chars.
+	 * 
+	 * @param s source
+	 */
+	default void write(CharSequence s) {
+		write(s, 0, s.length());
+	}
+
+	/**
+	 * Writes the HTML/XML escaped form of the given text.
+	 * 
+	 * @param s source
+	 */
+	default void writeEscaped(CharSequence s) {
+		Util.escapeHtmlXml(s, this);
+	}
+
+	/**
+	 * Writes a pre-encoded fragment. Byte-oriented sinks should copy
+	 * {@link Markup}'s bytes rather than encoding its chars again.
+	 * 
+	 * @param markup source
+	 */
+	default void write(Markup markup) {
+		write(markup.chars, 0, markup.chars.length);
+	}
+
+	/**
+	 * Passes buffered output on to the destination and flushes it.
+	 */
+	void flush();
+}
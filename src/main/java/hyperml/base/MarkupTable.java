@@ -0,0 +1,93 @@
+package hyperml.base;
+
+import static java.util.Collections.emptySet;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed markup fragments and element descriptors for a fixed set of
+ * element and attribute names.
+ * <p>
+ * Thread-safe.
+ * 
+ * @author krizz
+ */
+final class MarkupTable {
+
+	/**
+	 * Table without predefined names.
+	 */
+	static final MarkupTable GENERIC = new MarkupTable(new String[0], new String[0], emptySet(), emptySet());
+
+	/**
+	 * Upper bound of element names interned on first use.
+	 */
+	private static final int MAX_DYNAMIC_TAGS = 4096;
+
+	private final Set<String> voidElements;
+	private final Set<String> rawTextElements;
+	private final Map<String, Tag> tags;
+	private final Map<String, Markup> attributes;
+	private final ConcurrentHashMap<String, Tag> dynamicTags = new ConcurrentHashMap<>();
+
+	/**
+	 * @param elementNames    element names known upfront
+	 * @param attributeNames  attribute names known upfront
+	 * @param voidElements    lower case names of the void elements
+	 * @param rawTextElements lower case names of the elements whose text is not
+	 *                        escaped
+	 */
+	MarkupTable(String[] elementNames, String[] attributeNames, Set<String> voidElements, Set<String> rawTextElements) {
+		this.voidElements = voidElements;
+		this.rawTextElements = rawTextElements;
+		tags = new HashMap<>(elementNames.length * 2);
+		for (String name : elementNames) {
+			tags.put(name, newTag(name));
+		}
+		attributes = new HashMap<>(attributeNames.length * 2);
+		for (String name : attributeNames) {
+			attributes.put(name, Markup.of(" " + name + "=\""));
+		}
+	}
+
+	/**
+	 * Returns the tag for the given element name. Names not in the table are
+	 * interned on first use.
+	 * 
+	 * @return the tag
+	 */
+	Tag tag(String name) {
+		Tag tag = tags.get(name);
+		if (tag != null) {
+			return tag;
+		}
+		tag = dynamicTags.get(name);
+		if (tag == null) {
+			tag = newTag(name);
+			if (dynamicTags.size() < MAX_DYNAMIC_TAGS) {
+				Tag prev = dynamicTags.putIfAbsent(name, tag);
+				if (prev != null) {
+					tag = prev;
+				}
+			}
+		}
+		return tag;
+	}
+
+	private Tag newTag(String name) {
+		String lower = name.toLowerCase(Locale.ROOT);
+		return new Tag(name, voidElements.contains(lower), rawTextElements.contains(lower));
+	}
+
+	/**
+	 * @return <code> name="</code> for the given attribute name or null if not in
+	 *         the table
+	 */
+	Markup attribute(String name) {
+		return attributes.get(name);
+	}
+}
@@ -0,0 +1,85 @@
+package hyperml.base;
+
+import java.util.Arrays;
+
+/**
+ * Recent output sizes of a document class, to pre-size the buffer of its next
+ * render and avoid growing it again and again.
+ * <p>
+ * Chars and UTF-8 bytes are estimated separately, as they differ for any
+ * non-ASCII content.
+ * <p>
+ * Thread-safe.
+ * 
+ * @author krizz
+ */
+final class OutputSize {
+
+	private static final ClassValue<OutputSize> CHARS = new ClassValue<OutputSize>() {
+		@Override
+		protected OutputSize computeValue(Class<?> type) {
+			return new OutputSize();
+		}
+	};
+
+	private static final ClassValue<OutputSize> BYTES = new ClassValue<OutputSize>() {
+		@Override
+		protected OutputSize computeValue(Class<?> type) {
+			return new OutputSize();
+		}
+	};
+
+	/**
+	 * Number of recent sizes considered.
+	 */
+	static final int WINDOW = 16;
+
+	/**
+	 * Used until a size has been recorded.
+	 */
+	static final int INITIAL = 256;
+
+	/**
+	 * Upper bound of the expected size.
+	 */
+	static final int MAX = 16 * 1024 * 1024;
+
+	private final int[] sizes = new int[WINDOW];
+	private int count;
+	private int next;
+	private volatile int expected = INITIAL;
+
+	/**
+	 * @return the output sizes in chars
+	 */
+	static OutputSize chars(Class<?> documentClass) {
+		return CHARS.get(documentClass);
+	}
+
+	/**
+	 * @return the output sizes in UTF-8 bytes
+	 */
+	static OutputSize bytes(Class<?> documentClass) {
+		return BYTES.get(documentClass);
+	}
+
+	/**
+	 * @return the 90th percentile of the recent sizes
+	 */
+	int expected() {
+		return expected;
+	}
+
+	void record(int size) {
+		synchronized (this) {
+			sizes[next] = size;
+			next = (next + 1) % WINDOW;
+			if (count < WINDOW) {
+				count++;
+			}
+			int[] sorted = Arrays.copyOf(sizes, count);
+			Arrays.sort(sorted);
+			expected = Math.min(sorted[(count - 1) * 9 / 10], MAX);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package hyperml.base;
+
+import hyperml.base.Util.ParamVisitor;
+
+/**
+ * Consumes the params of a single <code>$(name, params)</code> call as they are
+ * visited, writing each attribute as soon as it is known to be one.
+ * <p>
+ * A pair of items is an attribute once a further item follows it. The last one
+ * or two items are held back until the end, as they may be the element value
+ * and/or {@link BaseMl#$}.
+ * <p>
+ * Reused by all calls of a render.
+ * 
+ * @author krizz
+ */
+final class ParamStream implements ParamVisitor {
+
+	private BaseMl<?> ml;
+
+	/**
+	 * The element being started.
+	 */
+	Tag tag;
+
+	private Object first;
+	private Object second;
+	private int pending;
+
+	/**
+	 * The element value, set by {@link #finish()}.
+	 */
+	Object value;
+
+	/**
+	 * Whether the params end with {@link BaseMl#$}, set by {@link #finish()}.
+	 */
+	boolean end;
+
+	/**
+	 * @return this or, if already in use by an enclosing call, a new instance
+	 */
+	ParamStream open(BaseMl<?> ml, Tag tag) {
+		if (this.ml != null) {
+			return new ParamStream().open(ml, tag);
+		}
+		this.ml = ml;
+		this.tag = tag;
+		pending = 0;
+		value = null;
+		end = false;
+		return this;
+	}
+
+	@Override
+	public void param(Object item) {
+		if (pending == 2) {
+			ml.attributeParam(first, second);
+			pending = 0;
+		}
+		if (pending == 0) {
+			first = item;
+		} else {
+			second = item;
+		}
+		pending++;
+	}
+
+	// the elements of primitive arrays are only ever written as text, so they
+	// are turned into text right away rather than boxed
+
+	@Override
+	public void param(int item) {
+		param(String.valueOf(item));
+	}
+
+	@Override
+	public void param(long item) {
+		param(String.valueOf(item));
+	}
+
+	@Override
+	public void param(double item) {
+		param(String.valueOf(item));
+	}
+
+	/**
+	 * Writes the last attribute, if any, and determines the value and end.
+	 */
+	void finish() {
+		if (pending == 1) {
+			if (first == BaseMl.$) {
+				end = true;
+			} else {
+				value = first;
+			}
+		} else if (pending == 2) {
+			if (second == BaseMl.$) {
+				end = true;
+				value = first;
+			} else {
+				ml.attributeParam(first, second);
+			}
+		}
+	}
+
+	/**
+	 * Makes this available for the next call. Leaves the results of
+	 * {@link #finish()} to the caller.
+	 */
+	void release() {
+		ml = null;
+		first = null;
+		second = null;
+	}
+}
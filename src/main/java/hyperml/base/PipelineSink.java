@@ -0,0 +1,327 @@
+package hyperml.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import hyperml.HyperMlException;
+
+/**
+ * Hands the output of a render over to a second thread that encodes,
+ * optionally compresses and writes it, see
+ * {@link BaseMl#buildPipelined(OutputStream, Compression)}.
+ * <p>
+ * The stages share a single-producer single-consumer ring of {@link #SLOTS}
+ * chunks. The render fills a chunk in place and publishes it by advancing the
+ * tail, the writer processes it and releases it by advancing the head. Neither
+ * takes a lock: a stage that has to wait, the render because the ring is full
+ * or the writer because it is empty, spins briefly and then parks until the
+ * other stage unparks it, after publishing or releasing a slot.
+ *
+ * @author krizz
+ */
+final class PipelineSink implements MarkupSink {
+
+	/**
+	 * Number of chunks in the ring, a power of two.
+	 */
+	static final int SLOTS = 8;
+
+	private static final int MASK = SLOTS - 1;
+
+	static final int CHUNK_SIZE = 8192;
+
+	private static final byte CHARS = 0;
+	private static final byte MARKUP = 1;
+	private static final byte FLUSH = 2;
+	private static final byte END = 3;
+
+	/**
+	 * Number of times a stage checks again before it parks.
+	 */
+	private static final int SPINS = 200;
+
+	/**
+	 * Thrown within the writer to stop it after the render failed.
+	 */
+	private static final class Aborted extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		Aborted() {
+			super(null, null, false, false);
+		}
+	}
+
+	private final BufferArena arena;
+	private final char[][] chunks = new char[SLOTS][];
+	private final int[] lengths = new int[SLOTS];
+	private final Markup[] markups = new Markup[SLOTS];
+	private final byte[] kinds = new byte[SLOTS];
+
+	/**
+	 * Next slot the writer processes.
+	 */
+	private final AtomicLong head = new AtomicLong();
+
+	/**
+	 * Next slot the render publishes.
+	 */
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * The render while it is parked because the ring is full.
+	 */
+	private volatile Thread parkedRender;
+
+	/**
+	 * The writer while it is parked because the ring is empty.
+	 */
+	private volatile Thread parkedWriter;
+
+	private final CountDownLatch finished = new CountDownLatch(1);
+	private volatile Throwable failure;
+	private volatile boolean aborted;
+
+	// render side
+	private long next;
+	private char[] current;
+	private int fill;
+
+	PipelineSink(BufferArena arena) {
+		this.arena = arena;
+		for (int i = 0; i < SLOTS; i++) {
+			chunks[i] = arena.chars(CHUNK_SIZE);
+		}
+	}
+
+	@Override
+	public void write(char[] chars, int off, int len) {
+		while (len > 0) {
+			claim();
+			int n = Math.min(len, current.length - fill);
+			System.arraycopy(chars, off, current, fill, n);
+			fill += n;
+			off += n;
+			len -= n;
+			if (fill == current.length) {
+				publish(CHARS);
+			}
+		}
+	}
+
+	@Override
+	public void write(CharSequence s, int off, int len) {
+		int end = off + len;
+		while (off < end) {
+			claim();
+			int n = Math.min(end - off, current.length - fill);
+			if (s instanceof String) {
+				((String) s).getChars(off, off + n, current, fill);
+			} else if (s instanceof StringBuilder) {
+				((StringBuilder) s).getChars(off, off + n, current, fill);
+			} else {
+				for (int i = 0; i < n; i++) {
+					current[fill + i] = s.charAt(off + i);
+				}
+			}
+			fill += n;
+			off += n;
+			if (fill == current.length) {
+				publish(CHARS);
+			}
+		}
+	}
+
+	/**
+	 * Passes the fragment on as it is, so that its bytes are used.
+	 */
+	@Override
+	public void write(Markup markup) {
+		publishChars();
+		claim();
+		markups[(int) next & MASK] = markup;
+		publish(MARKUP);
+	}
+
+	@Override
+	public void flush() {
+		publishChars();
+		claim();
+		publish(FLUSH);
+	}
+
+	/**
+	 * Publishes the end and waits for the writer to finish.
+	 */
+	void close() {
+		publishChars();
+		claim();
+		publish(END);
+		await();
+		if (failure != null) {
+			throw HyperMlException.wrap(failure);
+		}
+	}
+
+	/**
+	 * Stops the writer after the render failed and waits for it.
+	 */
+	void abort() {
+		aborted = true;
+		LockSupport.unpark(parkedWriter);
+		await();
+	}
+
+	/**
+	 * Gives the chunks back to the arena, once the writer is done or has not been
+	 * started.
+	 */
+	void release() {
+		for (char[] chunk : chunks) {
+			arena.release(chunk);
+		}
+	}
+
+	private void await() {
+		boolean interrupted = false;
+		for (;;) {
+			try {
+				finished.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+				aborted = true;
+				LockSupport.unpark(parkedWriter);
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread()
+					.interrupt();
+		}
+	}
+
+	private void publishChars() {
+		if (current != null && fill > 0) {
+			publish(CHARS);
+		}
+	}
+
+	/**
+	 * Makes the next slot the current one, waiting while the ring is full.
+	 */
+	private void claim() {
+		if (current != null) {
+			return;
+		}
+		for (int spins = 0; next - head.get() == SLOTS; spins++) {
+			if (failure != null) {
+				throw HyperMlException.wrap(failure);
+			}
+			if (spins < SPINS) {
+				backoff(spins);
+			} else {
+				parkedRender = Thread.currentThread();
+				// checked again after announcing, so a release in between unparks
+				if (next - head.get() == SLOTS && failure == null) {
+					LockSupport.park(this);
+				}
+				parkedRender = null;
+			}
+		}
+		current = chunks[(int) next & MASK];
+		fill = 0;
+	}
+
+	private void publish(byte kind) {
+		int slot = (int) next & MASK;
+		kinds[slot] = kind;
+		lengths[slot] = fill;
+		current = null;
+		// orders the writes to the slot before the tail, and the tail before
+		// looking for a parked writer
+		tail.set(++next);
+		LockSupport.unpark(parkedWriter);
+	}
+
+	private static void backoff(int spins) {
+		if (spins >= SPINS / 2) {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Runs the writer until the end is published or the render is aborted.
+	 * 
+	 * @param out         destination
+	 * @param compression null for none
+	 * @param stats       receives the compression figures
+	 */
+	void drain(OutputStream out, Compression compression, RenderStats stats) {
+		byte[] buf = arena.bytes(Utf8Sink.DEFAULT_BUFFER_SIZE);
+		byte[] deflateBuf = compression == null ? null : arena.bytes(Utf8Sink.DEFAULT_BUFFER_SIZE);
+		DeflateStream deflate = null;
+		try {
+			if (compression != null) {
+				deflate = new DeflateStream(out, compression, stats, deflateBuf);
+			}
+			consume(new Utf8Sink(deflate == null ? out : deflate, buf));
+			if (deflate != null) {
+				deflate.finish();
+			}
+		} catch (Aborted e) {
+			// render failed
+		} catch (IOException | RuntimeException | Error e) {
+			failure = e;
+		} finally {
+			if (deflate != null) {
+				deflate.end();
+			}
+			arena.release(buf);
+			if (deflateBuf != null) {
+				arena.release(deflateBuf);
+			}
+			finished.countDown();
+			LockSupport.unpark(parkedRender);
+		}
+	}
+
+	private void consume(MarkupSink sink) {
+		for (long h = 0;; h++) {
+			for (int spins = 0; tail.get() == h; spins++) {
+				if (aborted) {
+					throw new Aborted();
+				}
+				if (spins < SPINS) {
+					backoff(spins);
+				} else {
+					parkedWriter = Thread.currentThread();
+					// checked again after announcing, so a publish in between unparks
+					if (tail.get() == h && !aborted) {
+						LockSupport.park(this);
+					}
+					parkedWriter = null;
+				}
+			}
+			int slot = (int) h & MASK;
+			switch (kinds[slot]) {
+			case CHARS:
+				sink.write(chunks[slot], 0, lengths[slot]);
+				break;
+			case MARKUP:
+				sink.write(markups[slot]);
+				markups[slot] = null;
+				break;
+			case FLUSH:
+				sink.flush();
+				break;
+			default:
+				return;
+			}
+			// hands the slot back
+			head.set(h + 1);
+			LockSupport.unpark(parkedRender);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package hyperml.base;
+
+import java.util.concurrent.CompletableFuture;
+
+import hyperml.HyperMlException;
+
+/**
+ * State of a render: where to write to and the elements started so far.
+ * <p>
+ * Subclasses add the state of specific document types.
+ * 
+ * @author krizz
+ */
+class RenderContext {
+
+	MarkupSink sink;
+
+	/**
+	 * Whether anything has been written.
+	 */
+	boolean written;
+
+	/**
+	 * Elements started so far.
+	 */
+	final ElementStack stack = new ElementStack();
+
+	/**
+	 * Whether the head of the last started element is still open for attributes.
+	 */
+	boolean headOpen;
+
+	/**
+	 * Whether this is the state of an ad-hoc/fluent document writing to a target
+	 * of the caller, which expects the output there whenever no element is open.
+	 */
+	boolean passThrough;
+
+	/**
+	 * Reused by the <code>$(name, params)</code> calls.
+	 */
+	final ParamStream params = new ParamStream();
+
+	FlushPolicy flushPolicy = FlushPolicy.DEFAULT;
+
+	/**
+	 * Counts the output for {@link FlushPolicy#withEvery(long)}, null if the
+	 * policy does not.
+	 */
+	ThresholdSink threshold;
+
+	RenderStats stats = new RenderStats();
+
+	private SpliceSink splice;
+
+	RenderContext(MarkupSink sink) {
+		this.sink = sink;
+	}
+
+	/**
+	 * Registers a forked render. Output written after it is held back until the
+	 * fork completed.
+	 */
+	void fork(CompletableFuture<Markup> fork) {
+		if (splice == null) {
+			splice = new SpliceSink(sink);
+			sink = splice;
+		}
+		splice.add(fork);
+	}
+
+	/**
+	 * Waits for all forks and writes their output.
+	 */
+	void joinForks() {
+		if (splice != null) {
+			splice.join();
+			sink = splice.target;
+			splice = null;
+		}
+	}
+
+	/**
+	 * Flushes the output. The caller makes sure no element head is open.
+	 */
+	void flush() {
+		sink.flush();
+		stats.flushes++;
+	}
+
+	/**
+	 * Waits for the oldest forks until no more than the given number is pending.
+	 */
+	void awaitForks(int max) {
+		if (splice != null) {
+			splice.awaitForks(max);
+		}
+	}
+
+	/**
+	 * Runs the given block, capturing its output in a fragment.
+	 */
+	Markup capture(Runnable block) {
+		MarkupSink prevSink = sink;
+		SpliceSink prevSplice = splice;
+		StringBuilder out = new StringBuilder();
+		int depth = stack.size();
+		try {
+			sink = MarkupSink.to(out);
+			splice = null;
+			block.run();
+			if (stack.size() != depth) {
+				throw new HyperMlException("Unbalanced $() calls in block. Names left on stack: '%s'", stack.names(depth));
+			}
+			joinForks();
+			sink.flush();
+		} finally {
+			sink = prevSink;
+			splice = prevSplice;
+		}
+		return Markup.of(out.toString());
+	}
+}
@@ -0,0 +1,251 @@
+package hyperml.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Hands the output of a render running on another thread over to a reader,
+ * chunk by chunk, see {@link BaseMl#toInputStream()} and
+ * {@link BaseMl#toReader()}.
+ * <p>
+ * The render starts with the first read and holds at most {@link #CAPACITY}
+ * chunks ahead of the reader, waiting while they are not consumed. Closing the
+ * reader aborts the render.
+ *
+ * @author krizz
+ */
+final class RenderPipe {
+
+	/**
+	 * Number of chunks the render may be ahead of the reader.
+	 */
+	static final int CAPACITY = 2;
+
+	private static final Object END = new Object();
+
+	/**
+	 * Thrown within the render to abort it after the reader was closed.
+	 */
+	private static final class Closed extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		Closed() {
+			super(null, null, false, false);
+		}
+	}
+
+	private final BaseMl<?> document;
+	private final Executor executor;
+
+	/**
+	 * byte[], char[], {@link #END} or the exception the render failed with.
+	 */
+	private final BlockingQueue<Object> chunks = new ArrayBlockingQueue<>(CAPACITY);
+	private volatile boolean closed;
+	private boolean started;
+
+	RenderPipe(BaseMl<?> document, Executor executor) {
+		this.document = document;
+		this.executor = executor;
+	}
+
+	InputStream inputStream() {
+		return new PipeInputStream();
+	}
+
+	Reader reader() {
+		return new PipeReader();
+	}
+
+	private void render(boolean chars) {
+		Object last = END;
+		try {
+			if (chars) {
+				document.buildChars(new PipeWriter());
+			} else {
+				document.buildUtf8(new PipeOutputStream(), Utf8Sink.DEFAULT_BUFFER_SIZE);
+			}
+		} catch (Closed e) {
+			return;
+		} catch (RuntimeException | Error e) {
+			last = e;
+		}
+		try {
+			put(last);
+		} catch (Closed e) {
+			// nobody waits
+		}
+	}
+
+	private void put(Object chunk) {
+		if (closed) {
+			throw new Closed();
+		}
+		try {
+			chunks.put(chunk);
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+			throw new Closed();
+		}
+	}
+
+	/**
+	 * @return the next chunk or null at the end
+	 */
+	private Object take(boolean chars) throws IOException {
+		if (closed) {
+			throw new IOException("closed");
+		}
+		if (!started) {
+			started = true;
+			executor.execute(() -> render(chars));
+		}
+		Object chunk;
+		try {
+			chunk = chunks.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+			throw new InterruptedIOException();
+		}
+		if (chunk == END) {
+			// for subsequent reads
+			chunks.add(END);
+			return null;
+		}
+		if (chunk instanceof Throwable) {
+			chunks.add(chunk);
+			throw new IOException((Throwable) chunk);
+		}
+		return chunk;
+	}
+
+	private void close() {
+		closed = true;
+		// unblocks the render, which then sees closed
+		chunks.clear();
+	}
+
+	private final class PipeOutputStream extends OutputStream {
+		@Override
+		public void write(byte[] b, int off, int len) {
+			if (len > 0) {
+				put(Arrays.copyOfRange(b, off, off + len));
+			}
+		}
+
+		@Override
+		public void write(int b) {
+			put(new byte[] { (byte) b });
+		}
+	}
+
+	private final class PipeWriter extends Writer {
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			if (len > 0) {
+				put(Arrays.copyOfRange(cbuf, off, off + len));
+			}
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	private final class PipeInputStream extends InputStream {
+		private byte[] chunk;
+		private int pos;
+		private boolean end;
+
+		private boolean fill() throws IOException {
+			while (!end && (chunk == null || pos == chunk.length)) {
+				chunk = (byte[]) take(false);
+				pos = 0;
+				end = chunk == null;
+			}
+			return !end;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return fill() ? chunk[pos++] & 0xff : -1;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (!fill()) {
+				return -1;
+			}
+			int n = Math.min(len, chunk.length - pos);
+			System.arraycopy(chunk, pos, b, off, n);
+			pos += n;
+			return n;
+		}
+
+		@Override
+		public int available() {
+			return chunk == null ? 0 : chunk.length - pos;
+		}
+
+		@Override
+		public void close() {
+			RenderPipe.this.close();
+		}
+	}
+
+	private final class PipeReader extends Reader {
+		private char[] chunk;
+		private int pos;
+		private boolean end;
+
+		private boolean fill() throws IOException {
+			while (!end && (chunk == null || pos == chunk.length)) {
+				chunk = (char[]) take(true);
+				pos = 0;
+				end = chunk == null;
+			}
+			return !end;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return fill() ? chunk[pos++] : -1;
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (!fill()) {
+				return -1;
+			}
+			int n = Math.min(len, chunk.length - pos);
+			System.arraycopy(chunk, pos, cbuf, off, n);
+			pos += n;
+			return n;
+		}
+
+		@Override
+		public void close() {
+			RenderPipe.this.close();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package hyperml.base;
+
+/**
+ * Statistics of a single build, see {@link BaseMl#rendered(RenderStats)}.
+ * 
+ * @author krizz
+ */
+public final class RenderStats {
+
+	int flushes;
+	long nanos;
+	int compressionLevel = -1;
+	long uncompressedBytes;
+	long compressedBytes;
+	long compressionNanos;
+	long splicedBytes;
+
+	/**
+	 * @return number of times the output was flushed, including the final flush
+	 */
+	public int flushes() {
+		return flushes;
+	}
+
+	/**
+	 * @return duration of the build in nanoseconds
+	 */
+	public long nanos() {
+		return nanos;
+	}
+
+	/**
+	 * @return level the output was compressed with, -1 if not compressed
+	 */
+	public int compressionLevel() {
+		return compressionLevel;
+	}
+
+	/**
+	 * @return number of bytes compressed, 0 if not compressed
+	 */
+	public long uncompressedBytes() {
+		return uncompressedBytes;
+	}
+
+	/**
+	 * @return number of compressed bytes written, 0 if not compressed
+	 */
+	public long compressedBytes() {
+		return compressedBytes;
+	}
+
+	/**
+	 * @return time spent compressing in nanoseconds, part of {@link #nanos()}
+	 */
+	public long compressionNanos() {
+		return compressionNanos;
+	}
+
+	/**
+	 * @return number of bytes of pre-deflated fragments, part of
+	 *         {@link #uncompressedBytes()} but not compressed by this build
+	 */
+	public long splicedBytes() {
+		return splicedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return "RenderStats [flushes=" + flushes + ", nanos=" + nanos + ", compressionLevel=" + compressionLevel + ", uncompressedBytes="
+				+ uncompressedBytes + ", compressedBytes=" + compressedBytes + ", compressionNanos=" + compressionNanos
+				+ ", splicedBytes=" + splicedBytes + "]";
+	}
+}
@@ -0,0 +1,155 @@
+package hyperml.base;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import hyperml.HyperMlException;
+
+/**
+ * Splices the output of forked renders into the target in document order.
+ * <p>
+ * Output is passed on directly up to the first fork that has not completed yet.
+ * Anything written after it is held back until it completed.
+ * 
+ * @author krizz
+ */
+final class SpliceSink implements MarkupSink {
+
+	final MarkupSink target;
+
+	/**
+	 * {@link CompletableFuture}s of {@link Markup}, {@link Markup} or
+	 * {@link StringBuilder} held back.
+	 */
+	private final ArrayDeque<Object> pending = new ArrayDeque<>();
+	private StringBuilder tail;
+
+	/**
+	 * Number of forks in {@link #pending}.
+	 */
+	private int forks;
+
+	SpliceSink(MarkupSink target) {
+		this.target = target;
+	}
+
+	void add(CompletableFuture<Markup> fork) {
+		pending.add(fork);
+		forks++;
+		tail = null;
+	}
+
+	/**
+	 * Waits for all forks and writes everything held back.
+	 */
+	void join() {
+		drain(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Waits for the oldest forks until no more than the given number is pending.
+	 */
+	void awaitForks(int max) {
+		while (forks > max) {
+			drain(1);
+		}
+	}
+
+	@Override
+	public void write(char[] chars, int off, int len) {
+		if (passOn()) {
+			target.write(chars, off, len);
+		} else {
+			tail().append(chars, off, len);
+		}
+	}
+
+	@Override
+	public void write(CharSequence s, int off, int len) {
+		if (passOn()) {
+			target.write(s, off, len);
+		} else {
+			tail().append(s, off, off + len);
+		}
+	}
+
+	@Override
+	public void writeEscaped(CharSequence s) {
+		if (passOn()) {
+			target.writeEscaped(s);
+		} else {
+			Util.escapeHtmlXml(s, this);
+		}
+	}
+
+	@Override
+	public void write(Markup markup) {
+		if (passOn()) {
+			target.write(markup);
+		} else {
+			pending.add(markup);
+			tail = null;
+		}
+	}
+
+	@Override
+	public void flush() {
+		drain(0);
+		target.flush();
+	}
+
+	private boolean passOn() {
+		if (pending.isEmpty()) {
+			return true;
+		}
+		drain(0);
+		return pending.isEmpty();
+	}
+
+	private StringBuilder tail() {
+		if (tail == null) {
+			tail = new StringBuilder();
+			pending.add(tail);
+		}
+		return tail;
+	}
+
+	/**
+	 * Writes everything held back up to the first fork that has not completed,
+	 * waiting for at most the given number of such forks.
+	 */
+	private void drain(int wait) {
+		while (!pending.isEmpty()) {
+			Object head = pending.peek();
+			if (head instanceof CompletableFuture) {
+				@SuppressWarnings("unchecked")
+				CompletableFuture<Markup> fork = (CompletableFuture<Markup>) head;
+				if (!fork.isDone()) {
+					if (wait == 0) {
+						return;
+					}
+					wait--;
+				}
+				forks--;
+				target.write(join(fork));
+			} else if (head instanceof Markup) {
+				target.write((Markup) head);
+			} else {
+				target.write((StringBuilder) head);
+			}
+			pending.poll();
+			if (head == tail) {
+				tail = null;
+			}
+		}
+	}
+
+	private static Markup join(CompletableFuture<Markup> fork) {
+		try {
+			return fork.join();
+		} catch (CompletionException e) {
+			throw HyperMlException.wrap(e.getCause());
+		}
+	}
+}
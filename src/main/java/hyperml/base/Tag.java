@@ -0,0 +1,70 @@
+package hyperml.base;
+
+/**
+ * Immutable descriptor of an element: its name, pre-encoded start and end tag
+ * and how the document type treats it.
+ * <p>
+ * Tags are interned: there is one instance per name and document type, resolved
+ * once when the document type is loaded or on first use of the name.
+ * 
+ * @author krizz
+ */
+public final class Tag {
+	final String name;
+
+	/**
+	 * <code>&lt;name</code>
+	 */
+	final Markup start;
+
+	/**
+	 * <code>&lt;/name&gt;</code>
+	 */
+	final Markup end;
+
+	/**
+	 * Whether the element has no content and no end tag, such as
+	 * <code>br</code>.
+	 */
+	final boolean voidElement;
+
+	/**
+	 * Whether text content is written unescaped, such as within
+	 * <code>script</code>.
+	 */
+	final boolean rawText;
+
+	Tag(String name, boolean voidElement, boolean rawText) {
+		this.name = name;
+		this.start = Markup.of("<" + name);
+		this.end = Markup.of("</" + name + ">");
+		this.voidElement = voidElement;
+		this.rawText = rawText;
+	}
+
+	/**
+	 * @return the element name
+	 */
+	public String name() {
+		return name;
+	}
+
+	/**
+	 * @return whether the element has no content and no end tag
+	 */
+	public boolean isVoid() {
+		return voidElement;
+	}
+
+	/**
+	 * @return whether text content is written unescaped
+	 */
+	public boolean isRawText() {
+		return rawText;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
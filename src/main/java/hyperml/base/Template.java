@@ -0,0 +1,411 @@
+package hyperml.base;
+
+import static hyperml.base.Util.escapeHtmlXml;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiled template of a document class, see {@link BaseMl#compiled()}.
+ * <p>
+ * The first renders are recorded as a tape of tokens: markup, raw text and
+ * escaped text. Once two recordings agree on their structure, tokens that
+ * differ between them become holes and the runs of constant tokens in between
+ * are merged into pre-encoded {@link Markup} segments.
+ * <p>
+ * Later renders still run <code>create()</code>, but constant tokens are merely
+ * checked against the tape and each segment is written with a single bulk copy
+ * just before the next hole. A render whose structure deviates from the tape
+ * writes what it has checked so far and passes the rest through unchanged, so
+ * the output is always the same as without a template. Templates that deviate
+ * too often are dropped for good.
+ * <p>
+ * A template is immutable once compiled and serves all threads.
+ *
+ * @author krizz
+ */
+final class Template {
+
+	private static final ClassValue<Template> TEMPLATES = new ClassValue<Template>() {
+		@Override
+		protected Template computeValue(Class<?> type) {
+			return new Template();
+		}
+	};
+
+	/**
+	 * @return the template shared by all documents of the given class
+	 */
+	static Template of(Class<?> documentClass) {
+		return TEMPLATES.get(documentClass);
+	}
+
+	private static final byte MARKUP = 0;
+	private static final byte TEXT = 1;
+	private static final byte ESCAPED = 2;
+
+	/**
+	 * Recordings that may disagree before giving up.
+	 */
+	private static final int MAX_RECORDINGS = 4;
+
+	/**
+	 * Deviations tolerated before the tape is dropped.
+	 */
+	private static final int MAX_MISSES = 8;
+
+	private Recording recording;
+	private int recordings;
+	private volatile Tape tape;
+	private volatile boolean disabled;
+	private final AtomicInteger replays = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * Returns the sink to render to for the next render.
+	 *
+	 * @param target final destination
+	 * @return the sink to pass to the render, may be target itself
+	 */
+	MarkupSink begin(MarkupSink target) {
+		if (disabled) {
+			return target;
+		}
+		Tape t = tape;
+		return t == null ? new Recorder(target) : new Replay(t, target);
+	}
+
+	/**
+	 * Completes a successful render that was started with {@link #begin}.
+	 *
+	 * @param sink the sink returned by {@link #begin}
+	 */
+	void end(MarkupSink sink) {
+		if (sink instanceof Replay) {
+			Replay replay = (Replay) sink;
+			replay.finish();
+			replayed(replay.mismatched);
+		} else if (sink instanceof Recorder) {
+			recorded(((Recorder) sink).recording);
+		}
+	}
+
+	boolean isCompiled() {
+		return tape != null;
+	}
+
+	boolean isDisabled() {
+		return disabled;
+	}
+
+	private synchronized void recorded(Recording rec) {
+		if (disabled || tape != null) {
+			return;
+		}
+		if (recording != null) {
+			Tape t = Tape.compile(recording, rec);
+			if (t != null) {
+				recording = null;
+				tape = t;
+				return;
+			}
+		}
+		recording = rec;
+		if (++recordings >= MAX_RECORDINGS) {
+			disable();
+		}
+	}
+
+	private void replayed(boolean mismatched) {
+		int n = replays.incrementAndGet();
+		if (mismatched) {
+			int m = misses.incrementAndGet();
+			if (m > MAX_MISSES && m * 4 > n) {
+				disable();
+			}
+		}
+	}
+
+	private synchronized void disable() {
+		disabled = true;
+		tape = null;
+		recording = null;
+	}
+
+	/**
+	 * Tokens of a single render.
+	 */
+	private static final class Recording {
+		final StringBuilder output = new StringBuilder();
+		byte[] kinds = new byte[64];
+		Object[] keys = new Object[64];
+		int[] ends = new int[64];
+		int size;
+
+		void add(byte kind, Object key, CharSequence out) {
+			if (size == kinds.length) {
+				int n = size * 2;
+				kinds = Arrays.copyOf(kinds, n);
+				keys = Arrays.copyOf(keys, n);
+				ends = Arrays.copyOf(ends, n);
+			}
+			output.append(out);
+			kinds[size] = kind;
+			keys[size] = key;
+			ends[size] = output.length();
+			size++;
+		}
+	}
+
+	/**
+	 * Passes everything on to the target and records it.
+	 */
+	private static final class Recorder implements MarkupSink {
+		final MarkupSink target;
+		final Recording recording = new Recording();
+
+		Recorder(MarkupSink target) {
+			this.target = target;
+		}
+
+		@Override
+		public void write(Markup markup) {
+			target.write(markup);
+			recording.add(MARKUP, markup, markup.text);
+		}
+
+		@Override
+		public void write(char[] chars, int off, int len) {
+			target.write(chars, off, len);
+			String s = new String(chars, off, len);
+			recording.add(TEXT, s, s);
+		}
+
+		@Override
+		public void write(CharSequence s, int off, int len) {
+			target.write(s, off, len);
+			String text = s.subSequence(off, off + len)
+					.toString();
+			recording.add(TEXT, text, text);
+		}
+
+		@Override
+		public void writeEscaped(CharSequence s) {
+			target.writeEscaped(s);
+			String text = s.toString();
+			recording.add(ESCAPED, text, escapeHtmlXml(text));
+		}
+
+		@Override
+		public void flush() {
+			target.flush();
+		}
+	}
+
+	/**
+	 * Immutable, compiled recording.
+	 */
+	private static final class Tape {
+		final int size;
+		final byte[] kinds;
+		final Object[] keys;
+		final boolean[] holes;
+
+		/**
+		 * Output of token i is chars[starts[i], starts[i + 1]).
+		 */
+		final int[] starts;
+		final char[] chars;
+
+		/**
+		 * Pre-encoded run of constant tokens starting at token i, if any.
+		 */
+		final Markup[] segments;
+		final int[] segmentEnds;
+
+		private Tape(Recording rec, boolean[] holes) {
+			size = rec.size;
+			kinds = Arrays.copyOf(rec.kinds, size);
+			keys = Arrays.copyOf(rec.keys, size);
+			this.holes = holes;
+			starts = new int[size + 1];
+			System.arraycopy(rec.ends, 0, starts, 1, size);
+			chars = new char[rec.output.length()];
+			rec.output.getChars(0, chars.length, chars, 0);
+
+			segments = new Markup[size];
+			segmentEnds = new int[size];
+			for (int i = 0; i < size;) {
+				if (holes[i]) {
+					i++;
+					continue;
+				}
+				int j = i;
+				while (j < size && !holes[j]) {
+					j++;
+				}
+				segments[i] = Markup.of(new String(chars, starts[i], starts[j] - starts[i]));
+				segmentEnds[i] = j;
+				i = j;
+			}
+		}
+
+		/**
+		 * @return the tape, or null if the recordings differ in structure
+		 */
+		static Tape compile(Recording a, Recording b) {
+			if (a.size != b.size) {
+				return null;
+			}
+			boolean[] holes = new boolean[a.size];
+			for (int i = 0; i < a.size; i++) {
+				if (a.kinds[i] != b.kinds[i]) {
+					return null;
+				}
+				if (a.kinds[i] == MARKUP) {
+					if (a.keys[i] != b.keys[i]) {
+						return null;
+					}
+				} else {
+					holes[i] = !a.keys[i].equals(b.keys[i]);
+				}
+			}
+			return new Tape(a, holes);
+		}
+	}
+
+	/**
+	 * Checks a render against the tape.
+	 */
+	private static final class Replay implements MarkupSink {
+		final Tape tape;
+		final MarkupSink target;
+
+		/**
+		 * Next token expected.
+		 */
+		int pos;
+
+		/**
+		 * First checked token not written yet.
+		 */
+		int pending;
+
+		boolean passThrough;
+		boolean mismatched;
+
+		Replay(Tape tape, MarkupSink target) {
+			this.tape = tape;
+			this.target = target;
+		}
+
+		@Override
+		public void write(Markup markup) {
+			if (!passThrough) {
+				if (pos < tape.size && tape.keys[pos] == markup) {
+					pos++;
+					return;
+				}
+				diverge();
+			}
+			target.write(markup);
+		}
+
+		@Override
+		public void write(char[] chars, int off, int len) {
+			if (!passThrough && text(TEXT, CharBuffer.wrap(chars, off, len), 0, len)) {
+				return;
+			}
+			target.write(chars, off, len);
+		}
+
+		@Override
+		public void write(CharSequence s, int off, int len) {
+			if (!passThrough && text(TEXT, s, off, len)) {
+				return;
+			}
+			target.write(s, off, len);
+		}
+
+		@Override
+		public void writeEscaped(CharSequence s) {
+			if (!passThrough && text(ESCAPED, s, 0, s.length())) {
+				return;
+			}
+			target.writeEscaped(s);
+		}
+
+		/**
+		 * @return true if the range of s is the constant expected at the current
+		 *         position, false if the caller must write it
+		 */
+		private boolean text(byte kind, CharSequence s, int off, int len) {
+			if (pos >= tape.size || tape.kinds[pos] != kind) {
+				diverge();
+				return false;
+			}
+			if (!tape.holes[pos] && regionEquals((String) tape.keys[pos], s, off, len)) {
+				pos++;
+				return true;
+			}
+			// hole
+			writePending();
+			pos++;
+			pending = pos;
+			return false;
+		}
+
+		private static boolean regionEquals(String key, CharSequence s, int off, int len) {
+			if (key.length() != len) {
+				return false;
+			}
+			if (s instanceof String) {
+				return key.regionMatches(0, (String) s, off, len);
+			}
+			for (int i = 0; i < len; i++) {
+				if (key.charAt(i) != s.charAt(off + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void writePending() {
+			if (pending == pos) {
+				return;
+			}
+			Markup segment = tape.segments[pending];
+			if (segment != null && tape.segmentEnds[pending] == pos) {
+				target.write(segment);
+			} else {
+				int start = tape.starts[pending];
+				target.write(tape.chars, start, tape.starts[pos] - start);
+			}
+			pending = pos;
+		}
+
+		private void diverge() {
+			writePending();
+			passThrough = true;
+			mismatched = true;
+		}
+
+		void finish() {
+			if (!passThrough) {
+				if (pos != tape.size) {
+					mismatched = true;
+				}
+				writePending();
+			}
+		}
+
+		@Override
+		public void flush() {
+			if (!passThrough) {
+				writePending();
+			}
+			target.flush();
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package hyperml.base;
+
+/**
+ * Counts the chars written since the last flush, see
+ * {@link FlushPolicy#withEvery(long)}.
+ * <p>
+ * Does not flush by itself, as that could expose a half-written tag: the render
+ * asks {@link #due()} at the end of elements and text.
+ * 
+ * @author krizz
+ */
+final class ThresholdSink implements MarkupSink {
+
+	private final MarkupSink target;
+	private final long every;
+	private long pending;
+
+	ThresholdSink(MarkupSink target, long every) {
+		this.target = target;
+		this.every = every;
+	}
+
+	@Override
+	public void write(char[] chars, int off, int len) {
+		target.write(chars, off, len);
+		pending += len;
+	}
+
+	@Override
+	public void write(CharSequence s, int off, int len) {
+		target.write(s, off, len);
+		pending += len;
+	}
+
+	// writeEscaped() not overridden: the escaped runs come through write(), so
+	// the entities are counted as well
+
+	@Override
+	public void write(Markup markup) {
+		target.write(markup);
+		pending += markup.length();
+	}
+
+	/**
+	 * @return whether the threshold has been reached since the last flush
+	 */
+	boolean due() {
+		return pending >= every;
+	}
+
+	@Override
+	public void flush() {
+		pending = 0;
+		target.flush();
+	}
+}
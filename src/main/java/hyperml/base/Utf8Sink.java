@@ -0,0 +1,366 @@
+package hyperml.base;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import hyperml.HyperMlException;
+
+/**
+ * Unsynchronized sink that encodes UTF-8 inline into a reusable byte buffer and
+ * writes it to the underlying stream in large chunks.
+ * <p>
+ * Replaces {@link java.io.OutputStreamWriter} for byte-oriented targets: no
+ * lock, no {@link java.nio.charset.CharsetEncoder} round-trip per write and a
+ * fast path for ASCII. {@link Markup} is copied as is. Malformed surrogates are
+ * replaced with <code>'?'</code>, as {@link java.io.OutputStreamWriter} does.
+ * <p>
+ * Without a stream, the buffer is the destination itself: either an array that
+ * grows, or a range of an array that, when exceeded, makes the sink throw
+ * {@link Overflow}.
+ *
+ * @author krizz
+ */
+final class Utf8Sink implements MarkupSink {
+
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final int CHUNK_SIZE = 1024;
+
+	/**
+	 * Thrown when the range of a fixed destination array is exceeded.
+	 */
+	static final class Overflow extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		Overflow() {
+			super(null, null, false, false);
+		}
+	}
+
+	/**
+	 * null if the buffer is the destination.
+	 */
+	private final OutputStream out;
+
+	/**
+	 * Same as out if compressing, else null.
+	 */
+	private final DeflateStream deflate;
+
+	/**
+	 * Same as out if writing to a channel, else null.
+	 */
+	private final ChannelRope rope;
+
+	private byte[] buf;
+	private final int start;
+	private int count;
+	private int limit;
+	private final boolean grow;
+
+	private char[] chunk;
+	private char highSurrogate;
+
+	Utf8Sink(OutputStream out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Sink that splices large {@link Markup} fragments pre-deflated.
+	 */
+	Utf8Sink(DeflateStream out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Sink that hands its full buffers over to the rope and references large
+	 * {@link Markup} fragments.
+	 */
+	Utf8Sink(ChannelRope out) {
+		this(out, ChannelRope.CHUNK_SIZE);
+	}
+
+	Utf8Sink(OutputStream out, int bufferSize) {
+		// room for at least one 4-byte sequence
+		this(out, new byte[Math.max(bufferSize, 16)]);
+	}
+
+	/**
+	 * @param buf buffer to encode into, at least 16 bytes, see
+	 *            {@link #array()}
+	 */
+	Utf8Sink(OutputStream out, byte[] buf) {
+		this.out = out;
+		this.deflate = out instanceof DeflateStream ? (DeflateStream) out : null;
+		this.rope = out instanceof ChannelRope ? (ChannelRope) out : null;
+		this.buf = buf;
+		this.start = 0;
+		this.limit = buf.length;
+		this.grow = false;
+	}
+
+	private Utf8Sink(byte[] array, int off, int len, boolean grow) {
+		this.out = null;
+		this.deflate = null;
+		this.rope = null;
+		this.buf = array;
+		this.start = off;
+		this.count = off;
+		this.limit = off + len;
+		this.grow = grow;
+	}
+
+	/**
+	 * Returns a sink that encodes into an array, growing it as needed, see
+	 * {@link #array()}.
+	 */
+	static Utf8Sink growing(int initialCapacity) {
+		return new Utf8Sink(new byte[Math.max(initialCapacity, 16)], 0, Math.max(initialCapacity, 16), true);
+	}
+
+	/**
+	 * Returns a sink that encodes into the given range and throws {@link Overflow}
+	 * if it is exceeded.
+	 */
+	static Utf8Sink into(byte[] array, int off, int len) {
+		if (off < 0 || len < 0 || off + len > array.length || off + len < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		return new Utf8Sink(array, off, len, false);
+	}
+
+	/**
+	 * @return the destination array, if the buffer is the destination, else the
+	 *         current buffer
+	 */
+	byte[] array() {
+		return buf;
+	}
+
+	/**
+	 * @return number of bytes encoded into the destination array
+	 */
+	int size() {
+		return count - start;
+	}
+
+	@Override
+	public void write(char[] chars, int off, int len) {
+		encode(chars, off, off + len);
+	}
+
+	@Override
+	public void write(CharSequence s, int off, int len) {
+		if (chunk == null) {
+			chunk = new char[CHUNK_SIZE];
+		}
+		int end = off + len;
+		while (off < end) {
+			int n = Math.min(end - off, CHUNK_SIZE);
+			if (s instanceof String) {
+				((String) s).getChars(off, off + n, chunk, 0);
+			} else {
+				for (int i = 0; i < n; i++) {
+					chunk[i] = s.charAt(off + i);
+				}
+			}
+			encode(chunk, 0, n);
+			off += n;
+		}
+	}
+
+	@Override
+	public void write(Markup markup) {
+		if (deflate != null && deflate.splices(markup)) {
+			if (highSurrogate != 0) {
+				malformed();
+			}
+			flushBuffer();
+			try {
+				deflate.writeDeflated(markup);
+			} catch (IOException e) {
+				throw HyperMlException.wrap(e);
+			}
+			return;
+		}
+		if (rope != null && markup.utf8.length >= ChannelRope.MIN_SLICE_BYTES) {
+			if (highSurrogate != 0) {
+				malformed();
+			}
+			flushBuffer();
+			try {
+				rope.add(markup);
+			} catch (IOException e) {
+				throw HyperMlException.wrap(e);
+			}
+			return;
+		}
+		writeBytes(markup.utf8, 0, markup.utf8.length);
+	}
+
+	/**
+	 * Writes already encoded UTF-8 bytes.
+	 */
+	void writeBytes(byte[] bytes, int off, int len) {
+		if (highSurrogate != 0) {
+			malformed();
+		}
+		if (len > limit - count) {
+			if (out == null) {
+				makeRoom(len);
+			} else {
+				flushBuffer();
+				if (len > limit) {
+					writeThrough(bytes, off, len);
+					return;
+				}
+			}
+		}
+		System.arraycopy(bytes, off, buf, count, len);
+		count += len;
+	}
+
+	private void encode(char[] cbuf, int off, int end) {
+		byte[] b = buf;
+		int pos = count;
+		while (off < end) {
+			// ASCII fast path
+			int stop = Math.min(end, off + limit - pos);
+			if (highSurrogate == 0) {
+				while (off < stop) {
+					char c = cbuf[off];
+					if (c >= 0x80) {
+						break;
+					}
+					b[pos++] = (byte) c;
+					off++;
+				}
+				if (off == end) {
+					break;
+				}
+			}
+			if (limit - pos < 4 && limit - pos < encodedLength(cbuf[off])) {
+				count = pos;
+				makeRoom(4);
+				b = buf;
+				pos = count;
+				continue;
+			}
+
+			char c = cbuf[off++];
+			if (highSurrogate != 0) {
+				char high = highSurrogate;
+				highSurrogate = 0;
+				if (Character.isLowSurrogate(c)) {
+					int cp = Character.toCodePoint(high, c);
+					b[pos++] = (byte) (0xf0 | (cp >> 18));
+					b[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+					b[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+					b[pos++] = (byte) (0x80 | (cp & 0x3f));
+					continue;
+				}
+				b[pos++] = '?';
+				off--; // re-examine c
+				continue;
+			}
+
+			if (c < 0x80) {
+				b[pos++] = (byte) c;
+			} else if (c < 0x800) {
+				b[pos++] = (byte) (0xc0 | (c >> 6));
+				b[pos++] = (byte) (0x80 | (c & 0x3f));
+			} else if (Character.isHighSurrogate(c)) {
+				highSurrogate = c;
+			} else if (Character.isLowSurrogate(c)) {
+				b[pos++] = '?';
+			} else {
+				b[pos++] = (byte) (0xe0 | (c >> 12));
+				b[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+				b[pos++] = (byte) (0x80 | (c & 0x3f));
+			}
+		}
+		count = pos;
+	}
+
+	/**
+	 * @return number of bytes the given char will be encoded to
+	 */
+	private int encodedLength(char c) {
+		if (highSurrogate != 0) {
+			return Character.isLowSurrogate(c) ? 4 : 1;
+		}
+		if (c < 0x80 || Character.isLowSurrogate(c)) {
+			return 1;
+		}
+		if (c < 0x800) {
+			return 2;
+		}
+		return Character.isHighSurrogate(c) ? 0 : 3;
+	}
+
+	private void malformed() {
+		highSurrogate = 0;
+		if (count == limit) {
+			makeRoom(1);
+		}
+		buf[count++] = '?';
+	}
+
+	/**
+	 * Makes room for the given number of bytes, as far as the buffer allows.
+	 */
+	private void makeRoom(int n) {
+		if (out != null) {
+			flushBuffer();
+		} else if (grow) {
+			buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + n));
+			limit = buf.length;
+		} else if (limit - count < n) {
+			throw new Overflow();
+		}
+	}
+
+	private void flushBuffer() {
+		if (out == null || count == start) {
+			return;
+		}
+		if (rope != null) {
+			try {
+				buf = rope.swap(buf, count);
+			} catch (IOException e) {
+				throw HyperMlException.wrap(e);
+			}
+		} else {
+			writeThrough(buf, start, count - start);
+		}
+		count = start;
+	}
+
+	private void writeThrough(byte[] bytes, int off, int len) {
+		try {
+			out.write(bytes, off, len);
+		} catch (IOException e) {
+			throw HyperMlException.wrap(e);
+		}
+	}
+
+	/**
+	 * A high surrogate still pending is malformed by now and replaced.
+	 */
+	@Override
+	public void flush() {
+		if (highSurrogate != 0) {
+			malformed();
+		}
+		if (out == null) {
+			return;
+		}
+		flushBuffer();
+		try {
+			out.flush();
+		} catch (IOException e) {
+			throw HyperMlException.wrap(e);
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package hyperml.base;
 
-import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -18,6 +17,18 @@ public class Util {
 	private Util() {
 	}
 
+	/**
+	 * Replacement per ASCII char, null if the char needs no escaping.
+	 */
+	private static final Markup[] ESCAPES = new Markup[128];
+
+	static {
+		ESCAPES['"'] = Markup.of("&quot;");
+		ESCAPES['&'] = Markup.of("&amp;");
+		ESCAPES['<'] = Markup.of("&lt;");
+		ESCAPES['>'] = Markup.of("&gt;");
+	}
+
 	/**
 	 * HTML/XML escape's the given text.
 	 * 
@@ -25,37 +36,61 @@ public class Util {
 	 * @return Escaped text
 	 */
 	public static String escapeHtmlXml(String text) {
-		StringBuilder sb = null;
-		for (int i = 0, n = text.length(); i < n; i++) {
-			String repl = null;
-			char c = text.charAt(i);
-			switch (c) {
-			case '"':
-				repl = "&quot;";
-				break;
-			case '&':
-				repl = "&amp;";
-				break;
-			case '<':
-				repl = "&lt;";
-				break;
-			case '>':
-				repl = "&gt;";
-				break;
-			default:
-				if (sb != null) {
-					sb.append(c);
-				}
+		int n = text.length();
+		int i = nextEscape(text, 0, n);
+		if (i == n) {
+			return text;
+		}
+		StringBuilder sb = new StringBuilder(n + 16);
+		int start = 0;
+		do {
+			sb.append(text, start, i)
+					.append(ESCAPES[text.charAt(i)].chars);
+			start = i + 1;
+			i = nextEscape(text, start, n);
+		} while (i < n);
+		return sb.append(text, start, n)
+				.toString();
+	}
+
+	/**
+	 * HTML/XML escape's the given text directly to the given sink.
+	 * <p>
+	 * The runs between special chars are written as ranges of the text, nothing is
+	 * allocated.
+	 * 
+	 * @param text text to escape
+	 * @param sink destination
+	 */
+	public static void escapeHtmlXml(CharSequence text, MarkupSink sink) {
+		int n = text.length();
+		int start = 0;
+		int i;
+		while ((i = nextEscape(text, start, n)) < n) {
+			if (i > start) {
+				sink.write(text, start, i - start);
 			}
+			sink.write(ESCAPES[text.charAt(i)]);
+			start = i + 1;
+		}
+		if (start < n) {
+			sink.write(text, start, n - start);
+		}
+	}
 
-			if (repl != null) {
-				if (sb == null) {
-					sb = new StringBuilder(text.substring(0, i));
-				}
-				sb.append(repl);
+	/**
+	 * @return the index of the next char to escape, at or after from, or end if
+	 *         none
+	 */
+	private static int nextEscape(CharSequence text, int from, int end) {
+		Markup[] escapes = ESCAPES;
+		for (int i = from; i < end; i++) {
+			char c = text.charAt(i);
+			if (c < 128 && escapes[c] != null) {
+				return i;
 			}
 		}
-		return sb != null ? sb.toString() : text;
+		return end;
 	}
 
 	/**
@@ -81,44 +116,128 @@ public class Util {
 	 */
 	public static Object[] flatten(Object... items) {
 		List<Object> list = new ArrayList<>();
+		visitAll(items, list::add);
+		return list.toArray();
+	}
+
+	/**
+	 * Receives flattened items one by one, see {@link Util#visitAll}.
+	 */
+	interface ParamVisitor {
+		void param(Object item);
+
+		/**
+		 * Receives an element of an <code>int[]</code>. Boxes it by default.
+		 */
+		default void param(int item) {
+			param((Object) item);
+		}
+
+		/**
+		 * Receives an element of a <code>long[]</code>. Boxes it by default.
+		 */
+		default void param(long item) {
+			param((Object) item);
+		}
+
+		/**
+		 * Receives an element of a <code>double[]</code>. Boxes it by default.
+		 */
+		default void param(double item) {
+			param((Object) item);
+		}
+	}
+
+	/**
+	 * Passes the items to the visitor as {@link #flatten(Object...)} would return
+	 * them, without collecting them first.
+	 * <p>
+	 * Does not allocate for items that are no structural items and for arrays.
+	 * The elements of <code>int[]</code>, <code>long[]</code> and
+	 * <code>double[]</code> are passed to the primitive overloads of the visitor,
+	 * those of other primitive arrays are boxed one at a time.
+	 */
+	static void visitAll(Object[] items, ParamVisitor visitor) {
 		for (Object it : items) {
-			add(list, it);
+			visitParam(it, visitor);
 		}
-		return list.toArray();
 	}
 
-	private static void add(List<Object> list, Object it) {
-		if (isArray(it)) {
-			for (int i = 0, n = Array.getLength(it); i < n; i++) {
-				add(list, Array.get(it, i));
-			}
+	/**
+	 * @see #visitAll(Object[], ParamVisitor)
+	 */
+	static void visitParam(Object it, ParamVisitor visitor) {
+		if (it == null || it instanceof String) {
+			visitor.param(it);
+		} else {
+			visit(it, visitor);
+		}
+	}
+
+	private static void visit(Object it, ParamVisitor visitor) {
+		if (it instanceof Object[]) {
+			visitAll((Object[]) it, visitor);
 		} else if (it instanceof Iterable) {
-			addIter(list, ((Iterable<?>) it).iterator());
+			visitIter(((Iterable<?>) it).iterator(), visitor);
 		} else if (it instanceof Iterator) {
-			addIter(list, (Iterator<?>) it);
+			visitIter((Iterator<?>) it, visitor);
 		} else if (it instanceof Map) {
-			addIter(list, ((Map<?, ?>) it).entrySet()
-					.iterator());
+			visitIter(((Map<?, ?>) it).entrySet()
+					.iterator(), visitor);
 		} else if (it instanceof Entry) {
 			Entry<?, ?> e = (Entry<?, ?>) it;
 			// do not flatten
-			list.add(e.getKey());
-			list.add(e.getValue());
+			visitor.param(e.getKey());
+			visitor.param(e.getValue());
 		} else if (it instanceof Stream) {
-			addIter(list, ((Stream<?>) it).iterator());
+			visitIter(((Stream<?>) it).iterator(), visitor);
+		} else if (it.getClass()
+				.isArray()) {
+			visitPrimitives(it, visitor);
 		} else {
-			list.add(it); // may be null
+			visitor.param(it);
 		}
 	}
 
-	private static void addIter(List<Object> list, Iterator<?> iter) {
+	private static void visitIter(Iterator<?> iter, ParamVisitor visitor) {
 		while (iter.hasNext()) {
-			add(list, iter.next());
+			visitParam(iter.next(), visitor);
 		}
 	}
 
-	private static boolean isArray(Object obj) {
-		return obj != null && obj.getClass()
-				.isArray();
+	private static void visitPrimitives(Object array, ParamVisitor visitor) {
+		if (array instanceof int[]) {
+			for (int it : (int[]) array) {
+				visitor.param(it);
+			}
+		} else if (array instanceof long[]) {
+			for (long it : (long[]) array) {
+				visitor.param(it);
+			}
+		} else if (array instanceof double[]) {
+			for (double it : (double[]) array) {
+				visitor.param(it);
+			}
+		} else if (array instanceof boolean[]) {
+			for (boolean it : (boolean[]) array) {
+				visitor.param((Object) it);
+			}
+		} else if (array instanceof char[]) {
+			for (char it : (char[]) array) {
+				visitor.param((Object) it);
+			}
+		} else if (array instanceof float[]) {
+			for (float it : (float[]) array) {
+				visitor.param((Object) it);
+			}
+		} else if (array instanceof short[]) {
+			for (short it : (short[]) array) {
+				visitor.param((Object) it);
+			}
+		} else {
+			for (byte it : (byte[]) array) {
+				visitor.param((Object) it);
+			}
+		}
 	}
 }
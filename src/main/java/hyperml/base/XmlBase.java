@@ -21,6 +21,10 @@ public abstract class XmlBase<T extends XmlBase<?>> extends BaseMl<T> {
 		super(out);
 	}
 
+	public XmlBase(MarkupSink sink) {
+		super(sink);
+	}
+
 	@Override
 	protected boolean isVoidElement(String name) {
 		return false;
@@ -0,0 +1,146 @@
+package hyperml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousByteChannel;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.WritePendingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author krizz
+ */
+public class AsyncTest {
+
+	static class Page extends Html {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		@Override
+		protected ExecutorService renderExecutor() {
+			return executor;
+		}
+
+		@Override
+		protected void create() {
+			ul();
+			for (int i = 0; i < 20000; i++) {
+				li("item ü " + i, $);
+			}
+			$();
+		}
+	}
+
+	/**
+	 * Completes each write of at most 1000 bytes on another thread.
+	 */
+	static class SlowChannel implements AsynchronousByteChannel {
+		final ExecutorService completer = Executors.newSingleThreadExecutor();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		boolean pending;
+		boolean stall;
+		final CountDownLatch firstWrite = new CountDownLatch(1);
+
+		@Override
+		public synchronized <A> void write(ByteBuffer src, A attachment, CompletionHandler<Integer, ? super A> handler) {
+			if (pending) {
+				throw new WritePendingException();
+			}
+			pending = true;
+			firstWrite.countDown();
+			if (stall) {
+				return;
+			}
+			completer.execute(() -> {
+				int n;
+				synchronized (this) {
+					n = Math.min(src.remaining(), 1000);
+					for (int i = 0; i < n; i++) {
+						out.write(src.get());
+					}
+					pending = false;
+				}
+				handler.completed(n, attachment);
+			});
+		}
+
+		@Override
+		public Future<Integer> write(ByteBuffer src) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public <A> void read(ByteBuffer dst, A attachment, CompletionHandler<Integer, ? super A> handler) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Future<Integer> read(ByteBuffer dst) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	@Test
+	public void byteChannel() throws Exception {
+		Page page = new Page();
+		byte[] expected = page.toBytes();
+
+		SlowChannel channel = new SlowChannel();
+		CompletableFuture<Long> result = page.buildAsync(channel);
+		assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(expected.length);
+		assertThat(channel.out.toByteArray()).isEqualTo(expected);
+		channel.completer.shutdown();
+		page.executor.shutdown();
+	}
+
+	@Test
+	public void fileChannel() throws Exception {
+		Page page = new Page();
+		Path path = Files.createTempFile("hyperml", ".html");
+		try (AsynchronousFileChannel file = AsynchronousFileChannel.open(path, StandardOpenOption.WRITE)) {
+			assertThat(page.buildAsync(file, 3)
+					.get(10, TimeUnit.SECONDS)).isEqualTo(page.toBytes().length);
+		}
+		byte[] bytes = Files.readAllBytes(path);
+		Files.delete(path);
+		assertThat(new String(bytes, 3, bytes.length - 3, UTF_8)).isEqualTo(page.toString());
+		page.executor.shutdown();
+	}
+
+	@Test
+	public void cancelAbortsRender() throws Exception {
+		Page page = new Page();
+		SlowChannel channel = new SlowChannel();
+		channel.stall = true;
+		CompletableFuture<Long> result = page.buildAsync(channel);
+		channel.firstWrite.await(10, TimeUnit.SECONDS);
+
+		result.cancel(false);
+		page.executor.shutdown();
+		// the render was waiting for the queue to drain
+		assertThat(page.executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		channel.completer.shutdown();
+	}
+}
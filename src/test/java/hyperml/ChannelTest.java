@@ -0,0 +1,112 @@
+package hyperml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author krizz
+ */
+public class ChannelTest {
+
+	static class Page extends Html {
+		@Override
+		protected void create() {
+			html();
+			{
+				body();
+				{
+					cache("ChannelTest.nav", null, () -> {
+						ul();
+						for (int i = 0; i < 50; i++) {
+							li("item " + i, $);
+						}
+						$();
+					});
+					for (int i = 0; i < 5000; i++) {
+						p("row ü " + i, $);
+					}
+				}
+				$();
+			}
+			$();
+		}
+	}
+
+	/**
+	 * Writes at most 1000 bytes per call, as a socket might.
+	 */
+	static class RecordingChannel implements GatheringByteChannel {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final List<Integer> gatheringWrites = new ArrayList<>();
+		boolean readOnlySegment;
+
+		@Override
+		public int write(ByteBuffer src) {
+			int n = Math.min(src.remaining(), 1000);
+			for (int i = 0; i < n; i++) {
+				out.write(src.get());
+			}
+			return n;
+		}
+
+		@Override
+		public long write(ByteBuffer[] srcs, int offset, int length) {
+			gatheringWrites.add(length);
+			for (int i = offset; i < offset + length; i++) {
+				readOnlySegment |= srcs[i].isReadOnly();
+			}
+			long total = 0;
+			for (int i = offset; i < offset + length; i++) {
+				total += write(srcs[i]);
+				if (srcs[i].hasRemaining()) {
+					break;
+				}
+			}
+			return total;
+		}
+
+		@Override
+		public long write(ByteBuffer[] srcs) {
+			return write(srcs, 0, srcs.length);
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	@Test
+	public void gatheringWrites() throws Exception {
+		Page page = new Page();
+		String expected = page.toString();
+
+		RecordingChannel channel = new RecordingChannel();
+		page.build(channel);
+
+		assertThat(new String(channel.out.toByteArray(), UTF_8)).isEqualTo(expected);
+		assertThat(channel.readOnlySegment).isTrue();
+		assertThat(channel.gatheringWrites.get(0)).isGreaterThan(1);
+	}
+
+	@Test
+	public void plainChannel() throws Exception {
+		Page page = new Page();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		page.build(Channels.newChannel(out));
+		assertThat(new String(out.toByteArray(), UTF_8)).isEqualTo(page.toString());
+	}
+}
@@ -0,0 +1,220 @@
+package hyperml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Test;
+
+import hyperml.base.Compression;
+import hyperml.base.RenderStats;
+
+/**
+ * @author krizz
+ */
+public class CompressionTest {
+
+	static class Page extends Html {
+		RenderStats stats;
+
+		@Override
+		protected void rendered(RenderStats stats) {
+			this.stats = stats;
+		}
+
+		@Override
+		protected void create() {
+			html();
+			{
+				body();
+				{
+					p("first", $);
+					flush();
+					for (int i = 0; i < 2000; i++) {
+						p("row ", i, "ü", $);
+					}
+				}
+				$();
+			}
+			$();
+		}
+	}
+
+	static class CachedPage extends Page {
+		@Override
+		protected void create() {
+			html();
+			{
+				body();
+				{
+					p("dynamic", $);
+					// beyond DeflateStream.MIN_SPLICE_BYTES
+					cache("CompressionTest.nav", null, () -> {
+						ul();
+						for (int i = 0; i < 4000; i++) {
+							li("item " + i, $);
+						}
+						$();
+					});
+					p("dynamic ü", $);
+				}
+				$();
+			}
+			$();
+		}
+	}
+
+	static class RepeatedPage extends Page {
+		@Override
+		protected void create() {
+			html();
+			{
+				body();
+				for (int n = 0; n < 60; n++) {
+					p("dynamic ", n, $);
+					cache("CompressionTest.row", null, () -> {
+						ul();
+						for (int i = 0; i < 60; i++) {
+							li("item " + i, $);
+						}
+						$();
+					});
+				}
+				$();
+			}
+			$();
+		}
+	}
+
+	private static String read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buf = new byte[4096];
+		int n;
+		while ((n = in.read(buf)) >= 0) {
+			out.write(buf, 0, n);
+		}
+		return new String(out.toByteArray(), UTF_8);
+	}
+
+	@Test
+	public void gzip() throws Exception {
+		Page page = new Page();
+		String expected = page.toString();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		page.build(out, Compression.gzip(6));
+
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())))).isEqualTo(expected);
+		assertThat(page.stats.compressionLevel()).isEqualTo(6);
+		assertThat(page.stats.uncompressedBytes()).isEqualTo(expected.getBytes(UTF_8).length);
+		assertThat(page.stats.compressedBytes()).isEqualTo(out.size());
+		assertThat(page.stats.compressedBytes()).isLessThan(page.stats.uncompressedBytes() / 4);
+	}
+
+	@Test
+	public void deflate() throws Exception {
+		Page page = new Page();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		page.build(out, Compression.deflate(1));
+
+		assertThat(read(new InflaterInputStream(new ByteArrayInputStream(out.toByteArray())))).isEqualTo(page.toString());
+	}
+
+	@Test
+	public void syncFlushAtFlushPolicy() throws Exception {
+		byte[][] atFirstFlush = new byte[1][];
+		ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void flush() {
+				if (atFirstFlush[0] == null) {
+					atFirstFlush[0] = toByteArray();
+				}
+			}
+		};
+		new Page().build(out, Compression.deflate(9));
+
+		Inflater inflater = new Inflater();
+		inflater.setInput(atFirstFlush[0]);
+		byte[] buf = new byte[1024];
+		int n = inflater.inflate(buf);
+		inflater.end();
+		assertThat(new String(buf, 0, n, UTF_8)).isEqualTo("<html><body><p>first</p>");
+	}
+
+	@Test
+	public void adaptiveLevel() throws Exception {
+		// never fast enough
+		Compression compression = Compression.gzip(9)
+				.adaptive(Long.MAX_VALUE);
+		Page page = new Page();
+		for (int i = 0; i < 3; i++) {
+			page.build(new ByteArrayOutputStream(), compression);
+		}
+		assertThat(page.stats.compressionLevel()).isEqualTo(7);
+		assertThat(compression.currentLevel()).isEqualTo(6);
+	}
+
+	@Test
+	public void splicePreDeflatedFragments() throws Exception {
+		CachedPage page = new CachedPage();
+		String expected = page.toString();
+		int fragment = expected.indexOf("</ul>") + 5 - expected.indexOf("<ul>");
+
+		ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+		page.build(gzip, Compression.gzip(6));
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray())))).isEqualTo(expected);
+		assertThat(page.stats.splicedBytes()).isEqualTo(fragment);
+		assertThat(page.stats.uncompressedBytes()).isEqualTo(expected.getBytes(UTF_8).length);
+
+		ByteArrayOutputStream deflate = new ByteArrayOutputStream();
+		page.build(deflate, Compression.deflate(9));
+		assertThat(read(new InflaterInputStream(new ByteArrayInputStream(deflate.toByteArray())))).isEqualTo(expected);
+		assertThat(page.stats.splicedBytes()).isEqualTo(fragment);
+	}
+
+	@Test
+	public void smallFragmentsAsPlainGzip() throws Exception {
+		RepeatedPage page = new RepeatedPage();
+		byte[] raw = page.toString()
+				.getBytes(UTF_8);
+		ByteArrayOutputStream plain = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(plain)) {
+			gzip.write(raw);
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		page.build(out, Compression.gzip(6));
+
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())))).isEqualTo(page.toString());
+		assertThat(page.stats.splicedBytes()).isZero();
+		assertThat(out.size()).isLessThan(plain.size() * 11 / 10);
+	}
+
+	@Test
+	public void spliceAtRequestedLevel() throws Exception {
+		CachedPage page = new CachedPage();
+		String expected = page.toString();
+
+		ByteArrayOutputStream stored = new ByteArrayOutputStream();
+		page.build(stored, Compression.gzip(0));
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(stored.toByteArray())))).isEqualTo(expected);
+		assertThat(page.stats.splicedBytes()).isZero();
+		assertThat(page.stats.compressedBytes()).isGreaterThan(page.stats.uncompressedBytes());
+
+		ByteArrayOutputStream fast = new ByteArrayOutputStream();
+		page.build(fast, Compression.gzip(1));
+		ByteArrayOutputStream best = new ByteArrayOutputStream();
+		page.build(best, Compression.gzip(9));
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(fast.toByteArray())))).isEqualTo(expected);
+		assertThat(read(new GZIPInputStream(new ByteArrayInputStream(best.toByteArray())))).isEqualTo(expected);
+		assertThat(page.stats.splicedBytes()).isPositive();
+		assertThat(best.size()).isLessThan(fast.size());
+	}
+}
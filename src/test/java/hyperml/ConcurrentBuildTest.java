@@ -0,0 +1,108 @@
+package hyperml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * @author krizz
+ */
+public class ConcurrentBuildTest extends AbstractXmlTest {
+
+	private static final Html PAGE = new Html() {
+		@Override
+		protected void create() {
+			html();
+			{
+				style();
+				{
+					css("body");
+					{
+						$(color, "red");
+					}
+					$();
+				}
+				$();
+				body();
+				{
+					for (int i = 0; i < 50; i++) {
+						div(id, i);
+						{
+							span("<" + i, $);
+						}
+						$();
+					}
+				}
+				$();
+			}
+			$();
+		}
+	};
+
+	@Test
+	public void sharedDocument() throws Exception {
+		String expected = PAGE.toString();
+		assertThat(expected).startsWith("<html><style>body{color:red;}</style><body><div id=\"0\"><span>&lt;");
+
+		int threads = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < threads * 50; i++) {
+				Callable<String> build = () -> {
+					start.await();
+					StringWriter out = new StringWriter();
+					PAGE.build(out);
+					return out.toString();
+				};
+				results.add(executor.submit(build));
+			}
+			start.countDown();
+			for (Future<String> result : results) {
+				assertThat(result.get()).isEqualTo(expected);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void reentrantBuild() throws Exception {
+		Xml inner = new Xml() {
+			@Override
+			protected void create() {
+				$("inner", $);
+			}
+		};
+		Xml outer = new Xml() {
+			@Override
+			protected void create() {
+				$("outer");
+				{
+					text(inner.toString());
+					text(toString().length());
+				}
+				$();
+			}
+
+			@Override
+			public String toString() {
+				return "x";
+			}
+		};
+
+		StringWriter out = new StringWriter();
+		outer.build(out);
+		assertThat(out.toString()).isEqualTo("<outer>&lt;inner&gt;&lt;/inner&gt;1</outer>");
+	}
+}
@@ -0,0 +1,117 @@
+package hyperml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author krizz
+ */
+public class EachTest {
+
+	@Test
+	public void sources() throws Exception {
+		List<String> items = Arrays.asList("a", "b");
+		Html html = new Html() {
+			@Override
+			protected void create() {
+				ul();
+				{
+					each(items, (doc, it) -> doc.li(it, $));
+					each(Stream.of("c"), (doc, it) -> doc.li(it, $));
+					each(items.iterator(), (doc, it) -> doc.li(it, $));
+					each(items.spliterator(), (doc, it) -> doc.li(it, $));
+				}
+				$();
+			}
+		};
+
+		assertThat(html.toString()).isEqualTo("<ul><li>a</li><li>b</li><li>c</li><li>a</li><li>b</li><li>a</li><li>b</li></ul>");
+	}
+
+	@Test
+	public void pullsLazilyAndFlushes() throws Exception {
+		StringWriter out = new StringWriter();
+		int[] flushes = new int[1];
+		StringWriter writer = new StringWriter() {
+			@Override
+			public void write(char[] cbuf, int off, int len) {
+				out.write(cbuf, off, len);
+			}
+
+			@Override
+			public void flush() {
+				flushes[0]++;
+			}
+		};
+		Iterator<Integer> items = new Iterator<Integer>() {
+			int next;
+
+			@Override
+			public boolean hasNext() {
+				return next < 4;
+			}
+
+			@Override
+			public Integer next() {
+				// the previous pair of items has been written before pulling the next one
+				if (next == 2) {
+					assertThat(out.toString()).endsWith("<li>0</li><li>1</li>");
+				}
+				return next++;
+			}
+		};
+		Html html = new Html() {
+			@Override
+			protected void create() {
+				ul();
+				{
+					each(items, 2, (doc, it) -> doc.li(it, $));
+				}
+				$();
+			}
+		};
+
+		html.build(writer);
+
+		assertThat(out.toString()).isEqualTo("<ul><li>0</li><li>1</li><li>2</li><li>3</li></ul>");
+		assertThat(flushes[0]).isGreaterThanOrEqualTo(2);
+	}
+
+	@Test
+	public void parallelInOrder() throws Exception {
+		Html html = new Html() {
+			@Override
+			protected int maxPendingChunks() {
+				return 2;
+			}
+
+			@Override
+			protected void create() {
+				ul();
+				{
+					eachParallel(IntStream.range(0, 100)
+							.boxed()
+							.spliterator(), 7, (doc, it) -> doc.li(it, $));
+				}
+				$();
+			}
+		};
+
+		StringBuilder expected = new StringBuilder("<ul>");
+		for (int i = 0; i < 100; i++) {
+			expected.append("<li>")
+					.append(i)
+					.append("</li>");
+		}
+		expected.append("</ul>");
+		assertThat(html.toString()).isEqualTo(expected.toString());
+	}
+}
@@ -0,0 +1,188 @@
+package hyperml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import hyperml.base.FlushPolicy;
+import hyperml.base.RenderStats;
+
+/**
+ * @author krizz
+ */
+public class FlushTest {
+
+	/**
+	 * Records the output at each flush.
+	 */
+	static class FlushRecorder extends StringWriter {
+		final List<String> flushed = new ArrayList<>();
+
+		@Override
+		public void flush() {
+			flushed.add(toString());
+		}
+	}
+
+	static class Page extends Html {
+		final FlushPolicy policy;
+		RenderStats stats;
+
+		Page(FlushPolicy policy) {
+			this.policy = policy;
+		}
+
+		@Override
+		protected FlushPolicy flushPolicy() {
+			return policy;
+		}
+
+		@Override
+		protected void rendered(RenderStats stats) {
+			this.stats = stats;
+		}
+
+		@Override
+		protected void create() {
+			html();
+			{
+				head();
+				{
+					title("t", $);
+				}
+				$();
+				body();
+				{
+					p("a", $);
+					flush();
+					for (int i = 0; i < 100; i++) {
+						p(i, $);
+					}
+				}
+				$();
+			}
+			$();
+		}
+	}
+
+	@Test
+	public void defaultPolicy() throws Exception {
+		Page page = new Page(FlushPolicy.DEFAULT);
+		FlushRecorder out = new FlushRecorder();
+		page.build(out);
+
+		assertThat(out.flushed).hasSize(3);
+		assertThat(out.flushed.get(0)).endsWith("<p>a</p>");
+		assertThat(page.stats.flushes()).isEqualTo(3);
+		assertThat(page.stats.nanos()).isPositive();
+	}
+
+	@Test
+	public void never() throws Exception {
+		Page page = new Page(FlushPolicy.NEVER);
+		FlushRecorder out = new FlushRecorder();
+		page.build(out);
+
+		assertThat(out.flushed).hasSize(1);
+		assertThat(page.stats.flushes()).isEqualTo(1);
+	}
+
+	@Test
+	public void afterHead() throws Exception {
+		Page page = new Page(FlushPolicy.NEVER.withAfterHead());
+		FlushRecorder out = new FlushRecorder();
+		page.build(out);
+
+		assertThat(out.flushed).hasSize(2);
+		assertThat(out.flushed.get(0)).isEqualTo("<html><head><title>t</title></head>");
+	}
+
+	@Test
+	public void every() throws Exception {
+		Page page = new Page(FlushPolicy.NEVER.withEvery(100));
+		FlushRecorder out = new FlushRecorder();
+		page.build(out);
+
+		int length = out.toString()
+				.length();
+		assertThat(page.stats.flushes()).isBetween(length / 120, length / 100 + 1);
+		assertThat(out.flushed).hasSize(page.stats.flushes());
+	}
+	@Test
+	public void everyAtSafeBoundaries() throws Exception {
+		Page page = new Page(FlushPolicy.NEVER.withEvery(10));
+		FlushRecorder out = new FlushRecorder();
+		page.build(out);
+
+		// never within a tag
+		assertThat(out.flushed).allSatisfy(s -> assertThat(s.lastIndexOf('>')).isGreaterThan(s.lastIndexOf('<')));
+	}
+
+	@Test
+	public void everyCountsEntities() throws Exception {
+		FlushRecorder out = new FlushRecorder();
+		new Html() {
+			@Override
+			protected FlushPolicy flushPolicy() {
+				return FlushPolicy.NEVER.withEvery(20);
+			}
+
+			@Override
+			protected void create() {
+				p("<<<<<", $);
+			}
+		}.build(out);
+
+		// 5 chars of text, but 20 escaped
+		assertThat(out.flushed).hasSize(2);
+		assertThat(out.flushed.get(0)).isEqualTo("<p>&lt;&lt;&lt;&lt;&lt;");
+	}
+
+	@Test
+	public void explicitFlushRightAfterOpen() throws Exception {
+		FlushRecorder out = new FlushRecorder();
+		new Html() {
+			@Override
+			protected FlushPolicy flushPolicy() {
+				return FlushPolicy.NEVER.withExplicit();
+			}
+
+			@Override
+			protected void create() {
+				div();
+				flush();
+				text("a");
+				$();
+			}
+		}.build(out);
+
+		assertThat(out.flushed).containsExactly("<div>", "<div>a</div>");
+	}
+
+	@Test
+	public void eachFlushAfterOpenHead() throws Exception {
+		FlushRecorder out = new FlushRecorder();
+		new Html() {
+			@Override
+			protected FlushPolicy flushPolicy() {
+				return FlushPolicy.NEVER;
+			}
+
+			@Override
+			protected void create() {
+				div();
+				{
+					each(Arrays.asList(1, 2), 1, (doc, it) -> doc.br());
+				}
+				$();
+			}
+		}.build(out);
+
+		assertThat(out.flushed).containsExactly("<div><br>", "<div><br><br>", "<div><br><br></div>");
+	}
+}
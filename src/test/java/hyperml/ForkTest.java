@@ -0,0 +1,159 @@
+package hyperml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+/**
+ * @author krizz
+ */
+public class ForkTest extends AbstractXmlTest {
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	public void splicedInDocumentOrder() throws Exception {
+		Html html = new Html() {
+			@Override
+			protected void create() {
+				body();
+				{
+					fork(() -> {
+						sleep(60);
+						div("sidebar", $);
+					});
+					fork(() -> {
+						ul();
+						{
+							for (int i = 0; i < 3; i++) {
+								int n = i;
+								fork(() -> {
+									sleep(30 - n * 10);
+									li(n, $);
+								});
+							}
+						}
+						$();
+					});
+					p("between", $);
+					fork(() -> div("footer", $));
+				}
+				$();
+			}
+		};
+
+		String expected = "<body><div>sidebar</div><ul><li>0</li><li>1</li><li>2</li></ul><p>between</p><div>footer</div></body>";
+		assertThat(html.toString()).isEqualTo(expected);
+		assertThat(html.toString()).isEqualTo(expected);
+	}
+
+	@Test
+	public void streamsUpToFirstUnfinishedFork() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		StringWriter out = new StringWriter();
+		int[] beforeRelease = new int[1];
+		char[] filler = new char[20_000];
+		Arrays.fill(filler, 'x');
+		Html html = new Html() {
+			@Override
+			protected void create() {
+				html();
+				{
+					fork(() -> {
+						await(release);
+						body("late", $);
+					});
+					// held back
+					text(new String(filler));
+					beforeRelease[0] = out.getBuffer()
+							.length();
+					release.countDown();
+				}
+				$();
+			}
+		};
+
+		html.build(out);
+		assertThat(beforeRelease[0]).isLessThan(filler.length);
+		assertThat(out.toString()).isEqualTo("<html><body>late</body>" + new String(filler) + "</html>");
+	}
+
+	@Test
+	public void streamsBeforeFork() throws Exception {
+		StringWriter out = new StringWriter();
+		int[] beforeFork = new int[1];
+		char[] filler = new char[20_000];
+		Arrays.fill(filler, 'x');
+		Html html = new Html() {
+			@Override
+			protected void create() {
+				html();
+				{
+					text(new String(filler));
+					fork(() -> body("late", $));
+					beforeFork[0] = out.getBuffer()
+							.length();
+				}
+				$();
+			}
+		};
+
+		html.build(out);
+		assertThat(beforeFork[0]).isGreaterThan(10_000);
+		assertThat(out.toString()).isEqualTo("<html>" + new String(filler) + "<body>late</body></html>");
+	}
+
+	@Test
+	public void unbalancedFork() throws Exception {
+		Html html = new Html() {
+			@Override
+			protected void create() {
+				div();
+				{
+					fork(() -> span());
+				}
+				$();
+			}
+		};
+
+		expectedEx.expect(HyperMlException.class);
+		expectedEx.expectMessage(containsString("Unbalanced $() calls"));
+
+		html.toString();
+	}
+
+	@Test
+	public void forkCannotEndParent() throws Exception {
+		Html html = new Html() {
+			@Override
+			protected void create() {
+				div();
+				fork(() -> $());
+			}
+		};
+
+		expectedEx.expect(HyperMlException.class);
+		expectedEx.expectMessage(containsString("Too many calls"));
+
+		html.toString();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
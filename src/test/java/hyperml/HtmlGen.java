@@ -3,6 +3,7 @@ package hyperml;
 import static java.util.Arrays.asList;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -20,6 +21,8 @@ import javax.xml.xpath.XPathFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
+import hyperml.base.BaseMl;
+import hyperml.base.HtmlBase;
 import hyperml.base.HtmlCore;
 import hyperml.util.CodeBuilder;
 
@@ -130,6 +133,28 @@ public class HtmlGen {
 					}
 				}
 
+				List<String> attributeNames = new ArrayList<>();
+				for (Item it : attrList) {
+					if (it.type.equals("attribute") && !exclude(it.name)) {
+						attributeNames.add(it.value);
+					}
+				}
+				List<String> elementNames = new ArrayList<>();
+				for (Item a : elementList) {
+					if (!a.name.isEmpty()) {
+						elementNames.add(a.name);
+					}
+				}
+
+				$("/**");
+				$(" * Names of the generated elements.");
+				$(" */");
+				array("ELEMENTS", elementNames);
+				$("/**");
+				$(" * Names of the generated attributes.");
+				$(" */");
+				array("ATTRIBUTES", attributeNames);
+
 				for (Item a : elementList) {
 					String name = a.name;
 					if (name.isEmpty()) {
@@ -142,14 +167,84 @@ public class HtmlGen {
 					$("public T ", toName(name), "(Object...params) {");
 					$("return $(\"", name, "\", params);");
 					$("}");
+					for (int arity = 0; arity <= 6; arity += 2) {
+						StringBuilder params = new StringBuilder();
+						StringBuilder args = new StringBuilder();
+						for (int i = 1; i <= arity; i++) {
+							params.append(i > 1 ? ", " : "")
+									.append("Object p")
+									.append(i);
+							args.append(", p")
+									.append(i);
+						}
+						$("/**");
+						$(" * The <code>", name, "</code> element, see {@link #", toName(name), "(Object...)}.");
+						$(" * @return this");
+						$(" */");
+						$("public T ", toName(name), "(", params, ") {");
+						$("return element(\"", name, "\"", args, ");");
+						$("}");
+					}
+				}
+
+				Set<String> reserved = reservedMethodNames();
+				for (Item a : elementList) {
+					reserved.add(toName(a.name));
+				}
+				for (Item it : attrList) {
+					String name = it.name;
+					if (!it.type.equals("attribute") || exclude(name)) {
+						continue;
+					}
+					String setter = toName(name);
+					if (reserved.contains(setter)) {
+						setter += "Attr";
+					}
+					$("/**");
+					$(" * Sets the <code>", name, "</code> attribute of the element just started.");
+					$(" * @return this");
+					$(" */");
+					$("public T ", setter, "(Object value) {");
+					$("return attribute(\"", it.value, "\", value);");
+					$("}");
 				}
 			}
+			private void array(String name, List<String> values) {
+				$("static final String[] ", name, " = {");
+				StringBuilder line = new StringBuilder();
+				for (String value : values) {
+					if (line.length() > 80) {
+						$(line.toString()
+								.trim());
+						line.setLength(0);
+					}
+					line.append('"')
+							.append(value)
+							.append("\", ");
+				}
+				$(line.toString()
+						.trim());
+				$("};");
+			}
 		}.create()
 				.toString();
 
 		Files.write(Paths.get(targetFile), code.getBytes());
 	}
 
+	/**
+	 * Names of the methods that the attribute setters must not overload.
+	 */
+	private static Set<String> reservedMethodNames() {
+		Set<String> names = new HashSet<>();
+		for (Class<?> type : asList(Object.class, BaseMl.class, HtmlBase.class, Html.class)) {
+			for (Method m : type.getDeclaredMethods()) {
+				names.add(m.getName());
+			}
+		}
+		return names;
+	}
+
 	private static void collectCssProps(Set<Item> allAttrs) throws Exception {
 		Document xmlDocument = parseXml("all-properties.en.xml");
 
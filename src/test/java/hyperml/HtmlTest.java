@@ -1,9 +1,12 @@
 package hyperml;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -373,4 +376,198 @@ public class HtmlTest extends AbstractXmlTest {
 		assertEquals("<input readonly checked=\"true\"><input><input readonly=\"off\" checked=\"false\">", result);
 	}
 
+	@Test
+	public void preEncodedMarkup() throws Exception {
+		Html ml = new Html() {
+			@Override
+			protected void create() {
+				div(classs, "a<b", id, "x");
+				{
+					$("custom", "data-x", "1", "ü", $);
+					span("text", $);
+				}
+				$();
+			}
+		};
+
+		String expected = "<div class=\"a&lt;b\" id=\"x\"><custom data-x=\"1\">ü</custom><span>text</span></div>";
+		assertEquals(expected, ml.toString());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ml.build(out);
+		assertEquals(expected, new String(out.toByteArray(), UTF_8));
+	}
+
+	@Test
+	public void escapingFollowsInnermostElement() throws Exception {
+		Html ml = new Html() {
+			@Override
+			protected void create() {
+				div();
+				{
+					script("1 < 2", $);
+					text("<");
+				}
+				$();
+				script();
+				{
+					$("template", "<b>", $);
+					text("a < b");
+				}
+				$();
+				$("BR");
+			}
+		};
+
+		assertEquals("<div><script>1 < 2</script>&lt;</div><script><template>&lt;b&gt;</template>a < b</script><BR>", ml.toString());
+	}
+
+	@Test
+	public void fixedArityElements() throws Exception {
+		Html ml = new Html() {
+			@Override
+			protected void create() {
+				div();
+				{
+					span("text", $);
+					span(classs, "x");
+					$();
+					a(href, "/", title, "t", "link", $);
+					input(type, "text", value, null, readonly, true);
+				}
+				$();
+			}
+		};
+
+		assertEquals("<div><span>text</span><span class=\"x\"></span><a href=\"/\" title=\"t\">link</a><input type=\"text\" readonly></div>",
+				ml.toString());
+	}
+
+	@Test
+	public void attributeSetters() throws Exception {
+		Html ml = new Html() {
+			@Override
+			protected void create() {
+				a().href("/?a&b").titleAttr("t").text("link", $);
+				div(id, "x").classs("c").hidden(true).$();
+				br().classs("b");
+			}
+		};
+
+		assertEquals("<a href=\"/?a&amp;b\" title=\"t\">link</a><div id=\"x\" class=\"c\" hidden></div><br class=\"b\">", ml.toString());
+	}
+
+	@Test
+	public void attributeSetterAfterContent() throws Exception {
+		Html ml = new Html() {
+			@Override
+			protected void create() {
+				div("text").classs("c").$();
+			}
+		};
+
+		expectedEx.expect(HyperMlException.class);
+		expectedEx.expectMessage(containsString("must directly follow"));
+
+		ml.toString();
+	}
+
+	@Test
+	public void fluentToWriterWithoutCreate() throws Exception {
+		StringWriter sw = new StringWriter();
+		Html.to(sw)
+				.div()
+				.text("x");
+		assertEquals("<div>x", sw.toString());
+
+		sw = new StringWriter();
+		Xml.to(sw)
+				.text("hello");
+		assertEquals("hello", sw.toString());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Xml.to(out)
+				.text("hellö");
+		assertEquals("hellö", new String(out.toByteArray(), UTF_8));
+	}
+
+	@Test
+	public void customVoidElement() throws Exception {
+		Html ml = new Html() {
+			@Override
+			protected boolean isVoidElement(String name) {
+				return name.equals("x-icon") || super.isVoidElement(name);
+			}
+
+			@Override
+			protected void create() {
+				div();
+				{
+					$("x-icon", "name", "home");
+					br();
+					span("a", $);
+				}
+				$();
+			}
+		};
+
+		assertEquals("<div><x-icon name=\"home\"><br><span>a</span></div>", ml.toString());
+	}
+
+	@Test
+	public void fluentToWriterClosesHeads() throws Exception {
+		StringWriter sw = new StringWriter();
+		Html.to(sw)
+				.br();
+		assertEquals("<br>", sw.toString());
+
+		sw = new StringWriter();
+		Html.to(sw)
+				.div(Html.id, "x");
+		assertEquals("<div id=\"x\">", sw.toString());
+
+		assertEquals("<span class=\"c\"></span>", Html.of()
+				.span()
+				.classs("c")
+				.$()
+				.toString());
+	}
+
+	@Test
+	public void fluentToWriterAttributeSetter() throws Exception {
+		expectedEx.expect(HyperMlException.class);
+		expectedEx.expectMessage(containsString("not available"));
+
+		Html.to(new StringWriter())
+				.span()
+				.classs("c");
+	}
+
+	static class Upper extends Html {
+		@Override
+		protected void create() {
+			div("class", "a<b");
+			{
+				text("x&y");
+				br();
+				classs("c");
+				p("id", 1, "text", $);
+			}
+			$();
+		}
+
+		@Override
+		protected void _write(String s) {
+			super._write(s.toUpperCase());
+		}
+	}
+
+	@Test
+	public void writeOverrideSeesAllOutput() throws Exception {
+		assertEquals("<DIV CLASS=\"A&LT;B\">X&AMP;Y<BR CLASS=\"C\"><P ID=\"1\">TEXT</P></DIV>", new Upper().toString());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new Upper().build(out);
+		assertEquals(new Upper().toString(), new String(out.toByteArray(), UTF_8));
+	}
 }
@@ -0,0 +1,94 @@
+package hyperml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author krizz
+ */
+public class InputStreamTest {
+
+	private static Xml rows(int n, AtomicInteger rendered) {
+		return new Xml() {
+			@Override
+			protected void create() {
+				$("rows");
+				{
+					for (int i = 0; i < n; i++) {
+						$("row", "ü" + i, $);
+						rendered.incrementAndGet();
+					}
+				}
+				$();
+			}
+		};
+	}
+
+	@Test
+	public void inputStream() throws Exception {
+		Xml xml = rows(1000, new AtomicInteger());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream in = xml.toInputStream()) {
+			byte[] buf = new byte[1000];
+			int n;
+			while ((n = in.read(buf)) >= 0) {
+				out.write(buf, 0, n);
+			}
+			assertThat(in.read()).isEqualTo(-1);
+		}
+		assertThat(new String(out.toByteArray(), UTF_8)).isEqualTo(xml.toString());
+	}
+
+	@Test
+	public void reader() throws Exception {
+		Xml xml = rows(1000, new AtomicInteger());
+		StringBuilder out = new StringBuilder();
+		try (Reader in = xml.toReader()) {
+			int c;
+			while ((c = in.read()) >= 0) {
+				out.append((char) c);
+			}
+		}
+		assertThat(out.toString()).isEqualTo(xml.toString());
+	}
+
+	@Test
+	public void advancesAsFarAsConsumed() throws Exception {
+		AtomicInteger rendered = new AtomicInteger();
+		try (InputStream in = rows(1_000_000, rendered).toInputStream()) {
+			Thread.sleep(50);
+			assertThat(rendered.get()).isZero();
+
+			in.read();
+			Thread.sleep(50);
+			assertThat(rendered.get()).isLessThan(10_000);
+		}
+		Thread.sleep(50);
+		int afterClose = rendered.get();
+		Thread.sleep(50);
+		assertThat(rendered.get()).isEqualTo(afterClose);
+	}
+
+	@Test(expected = IOException.class)
+	public void renderError() throws Exception {
+		Xml xml = new Xml() {
+			@Override
+			protected void create() {
+				$("unbalanced");
+			}
+		};
+		try (InputStream in = xml.toInputStream()) {
+			while (in.read() >= 0) {
+				// consume
+			}
+		}
+	}
+}
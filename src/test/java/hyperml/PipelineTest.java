@@ -0,0 +1,204 @@
+package hyperml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import hyperml.base.Compression;
+import hyperml.base.RenderStats;
+
+/**
+ * @author krizz
+ */
+public class PipelineTest {
+
+	static class Page extends Html {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		RenderStats stats;
+		boolean failAtEnd;
+
+		@Override
+		protected ExecutorService renderExecutor() {
+			return executor;
+		}
+
+		@Override
+		protected void rendered(RenderStats stats) {
+			this.stats = stats;
+		}
+
+		@Override
+		protected void create() {
+			html();
+			{
+				body();
+				{
+					// spliced pre-deflated when compressed
+					cache("PipelineTest.nav", null, () -> {
+						ul();
+						for (int i = 0; i < 4000; i++) {
+							li("item " + i, $);
+						}
+						$();
+					});
+					for (int i = 0; i < 20000; i++) {
+						p("row ü € " + i, $);
+					}
+					if (failAtEnd) {
+						throw new IllegalStateException("render failed");
+					}
+				}
+				$();
+			}
+			$();
+		}
+	}
+
+	private final Page page = new Page();
+
+	@After
+	public void shutdown() throws Exception {
+		page.executor.shutdown();
+		assertThat(page.executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private static String gunzip(byte[] bytes) throws IOException {
+		GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buf = new byte[4096];
+		int n;
+		while ((n = in.read(buf)) >= 0) {
+			out.write(buf, 0, n);
+		}
+		return new String(out.toByteArray(), UTF_8);
+	}
+
+	@Test
+	public void pipelined() throws Exception {
+		String expected = page.toString();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		page.buildPipelined(out);
+		assertThat(new String(out.toByteArray(), UTF_8)).isEqualTo(expected);
+	}
+
+	@Test
+	public void pipelinedCompressed() throws Exception {
+		String expected = page.toString();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		page.buildPipelined(out, Compression.gzip(6));
+		assertThat(gunzip(out.toByteArray())).isEqualTo(expected);
+		assertThat(page.stats.compressedBytes()).isEqualTo(out.size());
+		assertThat(page.stats.splicedBytes()).isPositive();
+	}
+
+	@Test
+	public void writeErrorStopsRender() throws Exception {
+		OutputStream out = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("broken pipe");
+			}
+		};
+		try {
+			page.buildPipelined(out);
+			fail("exception expected");
+		} catch (HyperMlException e) {
+			assertThat(e.getCause()).hasMessage("broken pipe");
+		}
+	}
+
+	@Test
+	public void renderErrorStopsWriter() throws Exception {
+		page.failAtEnd = true;
+		try {
+			page.buildPipelined(new ByteArrayOutputStream());
+			fail("exception expected");
+		} catch (IllegalStateException e) {
+			assertThat(e).hasMessage("render failed");
+		}
+	}
+
+	@Test
+	public void slowStages() throws Exception {
+		Html slow = new Html() {
+			@Override
+			protected Executor renderExecutor() {
+				return page.executor;
+			}
+
+			@Override
+			protected void create() {
+				ul();
+				for (int i = 0; i < 5; i++) {
+					li(i, $);
+					flush();
+					// the writer parks meanwhile
+					sleep();
+				}
+				$();
+			}
+		};
+		// parks the render while the ring is full
+		OutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public synchronized void write(byte[] b, int off, int len) {
+				sleep();
+				super.write(b, off, len);
+			}
+		};
+		slow.buildPipelined(out);
+		assertThat(out.toString()).isEqualTo(slow.toString());
+
+		ByteArrayOutputStream large = new ByteArrayOutputStream() {
+			@Override
+			public synchronized void write(byte[] b, int off, int len) {
+				sleep();
+				super.write(b, off, len);
+			}
+		};
+		page.buildPipelined(large);
+		assertThat(new String(large.toByteArray(), UTF_8)).isEqualTo(page.toString());
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(5);
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	public void callerRunsExecutor() throws Exception {
+		Html html = new Html() {
+			@Override
+			protected Executor renderExecutor() {
+				return Runnable::run;
+			}
+
+			@Override
+			protected void create() {
+				p("a", $);
+			}
+		};
+		try {
+			html.buildPipelined(new ByteArrayOutputStream());
+			fail("exception expected");
+		} catch (HyperMlException e) {
+			assertThat(e).hasMessageContaining("another thread");
+		}
+	}
+}
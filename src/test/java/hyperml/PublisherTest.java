@@ -0,0 +1,137 @@
+package hyperml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import hyperml.base.MarkupPublisher.Subscriber;
+import hyperml.base.MarkupPublisher.Subscription;
+
+/**
+ * @author krizz
+ */
+public class PublisherTest {
+
+	private static final Object COMPLETE = new Object();
+
+	/**
+	 * Queues all signals.
+	 */
+	static class QueueSubscriber implements Subscriber {
+		final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+		Subscription subscription;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(ByteBuffer chunk) {
+			signals.add(chunk);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			signals.add(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			signals.add(COMPLETE);
+		}
+
+		Object next() throws InterruptedException {
+			return signals.poll(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private static Html rows(int n, AtomicInteger rendered) {
+		return new Html() {
+			@Override
+			protected void create() {
+				ul();
+				{
+					for (int i = 0; i < n; i++) {
+						li("row " + i, $);
+						rendered.incrementAndGet();
+					}
+				}
+				$();
+			}
+		};
+	}
+
+	@Test
+	public void publishesAsFarAsRequested() throws Exception {
+		AtomicInteger rendered = new AtomicInteger();
+		Html html = rows(10_000, rendered);
+		QueueSubscriber subscriber = new QueueSubscriber();
+		html.toPublisher()
+				.subscribe(subscriber);
+
+		Thread.sleep(50);
+		assertThat(rendered.get()).isZero();
+
+		subscriber.subscription.request(1);
+		assertThat(subscriber.next()).isInstanceOf(ByteBuffer.class);
+		Thread.sleep(50);
+		int afterFirstChunk = rendered.get();
+		assertThat(afterFirstChunk).isLessThan(10_000);
+		assertThat(subscriber.signals).isEmpty();
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Object signal;
+		while ((signal = subscriber.next()) instanceof ByteBuffer) {
+			ByteBuffer chunk = (ByteBuffer) signal;
+			out.write(chunk.array(), chunk.position(), chunk.remaining());
+		}
+		assertThat(signal).isSameAs(COMPLETE);
+		assertThat(rendered.get()).isEqualTo(10_000);
+		assertThat(new String(out.toByteArray(), UTF_8)).endsWith("<li>row 9999</li></ul>");
+	}
+
+	@Test
+	public void cancelAbortsRender() throws Exception {
+		AtomicInteger rendered = new AtomicInteger();
+		QueueSubscriber subscriber = new QueueSubscriber();
+		rows(100_000, rendered).toPublisher()
+				.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		assertThat(subscriber.next()).isInstanceOf(ByteBuffer.class);
+		subscriber.subscription.cancel();
+		Thread.sleep(50);
+
+		assertThat(rendered.get()).isLessThan(100_000);
+		assertThat(subscriber.signals).isEmpty();
+	}
+
+	@Test
+	public void renderErrorIsSignalled() throws Exception {
+		QueueSubscriber subscriber = new QueueSubscriber();
+		new Html() {
+			@Override
+			protected void create() {
+				div();
+			}
+		}.toPublisher()
+				.subscribe(subscriber);
+
+		subscriber.subscription.request(10);
+		Object signal;
+		while ((signal = subscriber.next()) instanceof ByteBuffer) {
+			// skip
+		}
+		assertThat(signal).isInstanceOf(HyperMlException.class);
+	}
+}
@@ -0,0 +1,69 @@
+package hyperml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author krizz
+ */
+public class ToBytesTest {
+
+	static class Page extends Html {
+		@Override
+		protected void create() {
+			ul();
+			for (int i = 0; i < 500; i++) {
+				li("ü€😀 " + i, $);
+			}
+			$();
+		}
+	}
+
+	private final Page page = new Page();
+	private final byte[] expected = page.toString()
+			.getBytes(UTF_8);
+
+	@Test
+	public void toBytes() throws Exception {
+		assertThat(page.toBytes()).isEqualTo(expected);
+		assertThat(Html.of()
+				.p("ü", Html.$)
+				.toBytes()).isEqualTo("<p>ü</p>".getBytes(UTF_8));
+	}
+
+	@Test
+	public void renderIntoArray() throws Exception {
+		byte[] out = new byte[expected.length + 3];
+		assertThat(page.renderInto(out, 3)).isEqualTo(expected.length);
+		assertThat(Arrays.copyOfRange(out, 3, out.length)).isEqualTo(expected);
+
+		// every possible cut, also within a multi-byte sequence
+		for (int len = expected.length - 8; len < expected.length; len++) {
+			assertThat(page.renderInto(new byte[len], 0)).isEqualTo(-1);
+		}
+		assertThat(page.renderInto(new byte[expected.length], 0)).isEqualTo(expected.length);
+	}
+
+	@Test
+	public void renderIntoByteBuffer() throws Exception {
+		for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.allocate(expected.length + 10), ByteBuffer.allocateDirect(expected.length + 10) }) {
+			buffer.position(5);
+			assertThat(page.renderInto(buffer)).isEqualTo(expected.length);
+			assertThat(buffer.position()).isEqualTo(5 + expected.length);
+
+			byte[] bytes = new byte[expected.length];
+			buffer.position(5);
+			buffer.get(bytes);
+			assertThat(bytes).isEqualTo(expected);
+
+			buffer.position(11);
+			assertThat(page.renderInto(buffer)).isEqualTo(-1);
+			assertThat(buffer.position()).isEqualTo(11);
+		}
+	}
+}
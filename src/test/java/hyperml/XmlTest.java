@@ -1,8 +1,11 @@
 package hyperml;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
 
 import java.io.StringWriter;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -281,4 +284,100 @@ public class XmlTest extends AbstractXmlTest {
 
 		xml.toString();
 	}
+
+	@Test
+	public void testFailTooFewEndsListsNames() throws Exception {
+		Xml xml = new Xml() {
+			@Override
+			protected void create() {
+				$("a");
+				$("b");
+				$("c", $);
+			}
+		};
+
+		expectedEx.expect(HyperMlException.class);
+		expectedEx.expectMessage(containsString("Names left on stack: 'a, b'"));
+
+		xml.toString();
+	}
+
+	@Test
+	public void testDeepNesting() throws Exception {
+		int depth = 100;
+		Xml xml = new Xml() {
+			@Override
+			protected void create() {
+				for (int i = 0; i < depth; i++) {
+					$("e" + i);
+				}
+				for (int i = 0; i < depth; i++) {
+					$();
+				}
+			}
+		};
+
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < depth; i++) {
+			expected.append("<e" + i + ">");
+		}
+		for (int i = depth - 1; i >= 0; i--) {
+			expected.append("</e" + i + ">");
+		}
+		myAssertXMLEqual(expected.toString(), xml.toString());
+	}
+
+	@Test
+	public void testNestedParams() throws Exception {
+		Xml xml = new Xml() {
+			@Override
+			protected void create() {
+				$("a", asList("id", 1), new Object[] { "class", new String[] { "x" } }, "text", $);
+				$("b", asList("id", 2, "text"), $);
+				$("c", Stream.of("id", 3), new Object[] { $ });
+			}
+		};
+
+		assertEquals("<a id=\"1\" class=\"x\">text</a><b id=\"2\">text</b><c id=\"3\"></c>", xml.toString());
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testDeprecatedNameHooks() throws Exception {
+		Xml xml = new Xml() {
+			@Override
+			protected void create() {
+				$("a", "id", 1);
+				{
+					$("b", $);
+				}
+				$();
+			}
+
+			@Override
+			protected void _startElementHead(String name) {
+				super._startElementHead("x:" + name);
+			}
+
+			@Override
+			protected void _endElement(String name) {
+				super._endElement("x:" + name);
+			}
+		};
+
+		assertEquals("<x:a id=\"1\"><x:b></x:b></x:a>", xml.toString());
+	}
+
+	@Test
+	public void testPrimitiveArrayParams() throws Exception {
+		Xml xml = new Xml() {
+			@Override
+			protected void create() {
+				$("a", "id", new long[] { 7 }, new double[] { 2.5 }, $);
+				$("b", new int[] { 1 }, new short[] { 2 }, $);
+			}
+		};
+
+		assertEquals("<a id=\"7\">2.5</a><b 1=\"2\"></b>", xml.toString());
+	}
 }
@@ -0,0 +1,54 @@
+package hyperml.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import hyperml.Xml;
+
+public class AppendableSinkTest {
+
+	@Test
+	public void combinesWrites() throws Exception {
+		List<String> chunks = new ArrayList<>();
+		Writer writer = new StringWriter() {
+			@Override
+			public void write(char[] cbuf, int off, int len) {
+				chunks.add(new String(cbuf, off, len));
+			}
+		};
+
+		AppendableSink sink = new AppendableSink(writer, 8);
+		sink.write("ab");
+		sink.write(new StringBuilder("cd"), 0, 2);
+		sink.write(Markup.of("efg"));
+		assertThat(chunks).isEmpty();
+
+		sink.write("hi");
+		sink.write("0123456789", 2, 8);
+		sink.flush();
+		assertThat(chunks).containsExactly("abcdefg", "hi", "23456789");
+	}
+
+	@Test
+	public void appendable() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		Xml.to(MarkupSink.to(sb))
+				.$("x", "a", "1", "text", BaseMl.$);
+		assertThat(sb.toString()).isEqualTo("<x a=\"1\">text</x>");
+	}
+
+	@Test
+	public void fluentToString() throws Exception {
+		Xml xml = Xml.of()
+				.$("x")
+				.text("abc");
+		assertThat(xml.$()
+				.toString()).isEqualTo("<x>abc</x>");
+	}
+}
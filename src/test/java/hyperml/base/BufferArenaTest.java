@@ -0,0 +1,74 @@
+package hyperml.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import hyperml.Html;
+
+public class BufferArenaTest {
+
+	@Test
+	public void reuse() throws Exception {
+		BufferArena arena = new BufferArena(1024 * 1024);
+		byte[] bytes = arena.bytes(5000);
+		assertThat(bytes).hasSize(8192);
+		assertThat(arena.misses()).isEqualTo(1);
+
+		arena.release(bytes);
+		assertThat(arena.retainedBytes()).isEqualTo(8192);
+		assertThat(arena.bytes(8000)).isSameAs(bytes);
+		assertThat(arena.hits()).isEqualTo(1);
+		assertThat(arena.retainedBytes()).isZero();
+
+		char[] chars = arena.chars(10);
+		assertThat(chars).hasSize(1024);
+		arena.release(chars);
+		assertThat(arena.retainedBytes()).isEqualTo(2048);
+		assertThat(arena.chars(1024)).isSameAs(chars);
+	}
+
+	@Test
+	public void notPooled() throws Exception {
+		BufferArena arena = new BufferArena(4096);
+		// too large for a size class
+		byte[] huge = arena.bytes(3 * 1024 * 1024);
+		assertThat(huge).hasSize(3 * 1024 * 1024);
+		arena.release(huge);
+		// not a size class
+		arena.release(new byte[1000]);
+		assertThat(arena.retainedBytes()).isZero();
+
+		// bound of retained memory
+		arena.release(new byte[4096]);
+		arena.release(new byte[4096]);
+		assertThat(arena.retainedBytes()).isEqualTo(4096);
+		assertThat(arena.dropped()).isEqualTo(1);
+	}
+
+	@Test
+	public void buildsReuseBuffers() throws Exception {
+		BufferArena arena = new BufferArena(1024 * 1024);
+		Html html = new Html() {
+			@Override
+			protected BufferArena bufferArena() {
+				return arena;
+			}
+
+			@Override
+			protected void create() {
+				p("hello", $);
+			}
+		};
+		for (int i = 0; i < 3; i++) {
+			html.build(new ByteArrayOutputStream());
+			html.build(new StringWriter());
+		}
+		assertThat(arena.misses()).isEqualTo(2);
+		assertThat(arena.hits()).isEqualTo(4);
+		assertThat(arena.retainedBytes()).isEqualTo(Utf8Sink.DEFAULT_BUFFER_SIZE + 2 * AppendableSink.DEFAULT_BUFFER_SIZE);
+	}
+}
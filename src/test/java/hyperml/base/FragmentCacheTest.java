@@ -0,0 +1,137 @@
+package hyperml.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import hyperml.Html;
+
+public class FragmentCacheTest {
+
+	static class Page extends Html {
+		final FragmentCache cache;
+		final AtomicInteger renders;
+		final String user;
+
+		Page(FragmentCache cache, AtomicInteger renders, String user) {
+			this.cache = cache;
+			this.renders = renders;
+			this.user = user;
+		}
+
+		@Override
+		protected FragmentCache fragmentCache() {
+			return cache;
+		}
+
+		@Override
+		protected void create() {
+			div();
+			{
+				cache("nav", null, set("layout"), () -> {
+					renders.incrementAndGet();
+					ul();
+					{
+						li("home & away", $);
+					}
+					$();
+				});
+				span(user, $);
+			}
+			$();
+		}
+	}
+
+	@Test
+	public void rendersOnce() throws Exception {
+		FragmentCache cache = new FragmentCache(1024 * 1024);
+		AtomicInteger renders = new AtomicInteger();
+
+		assertThat(new Page(cache, renders, "a").toString()).isEqualTo("<div><ul><li>home &amp; away</li></ul><span>a</span></div>");
+		assertThat(new Page(cache, renders, "b").toString()).isEqualTo("<div><ul><li>home &amp; away</li></ul><span>b</span></div>");
+
+		assertThat(renders.get()).isEqualTo(1);
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(1);
+
+		cache.invalidateTag("layout");
+		assertThat(cache.size()).isZero();
+		assertThat(cache.bytes()).isZero();
+		new Page(cache, renders, "c").toString();
+		assertThat(renders.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void singleFlight() throws Exception {
+		FragmentCache cache = new FragmentCache(1024 * 1024);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return cache.get("k", null, Collections.emptySet(), () -> {
+						loads.incrementAndGet();
+						sleep(50);
+						return Markup.of("<x>");
+					})
+							.toString();
+				}));
+			}
+			start.countDown();
+			for (Future<String> result : results) {
+				assertThat(result.get()).isEqualTo("<x>");
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(1);
+		assertThat(cache.hits()).isEqualTo(7);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() throws Exception {
+		FragmentCache cache = new FragmentCache(1000);
+		for (int i = 0; i < 20; i++) {
+			String text = String.format("%0100d", i);
+			cache.get(i, null, Collections.emptySet(), () -> Markup.of(text));
+			// keep 0 hot
+			cache.get(0, null, Collections.emptySet(), () -> Markup.of("reloaded"));
+		}
+		assertThat(cache.bytes()).isLessThanOrEqualTo(1000);
+		assertThat(cache.evictions()).isGreaterThan(0);
+		assertThat(cache.get(0, null, Collections.emptySet(), () -> Markup.of("reloaded"))
+				.toString()).startsWith("000");
+	}
+
+	@Test
+	public void expires() throws Exception {
+		FragmentCache cache = new FragmentCache(1000);
+		cache.get("k", Duration.ofNanos(1), Collections.emptySet(), () -> Markup.of("old"));
+		sleep(1);
+		assertThat(cache.get("k", Duration.ofNanos(1), Collections.emptySet(), () -> Markup.of("new"))
+				.toString()).isEqualTo("new");
+		assertThat(cache.misses()).isEqualTo(2);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
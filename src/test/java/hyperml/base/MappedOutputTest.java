@@ -0,0 +1,78 @@
+package hyperml.base;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Test;
+
+import hyperml.Xml;
+
+public class MappedOutputTest {
+
+	static class Export extends Xml {
+		@Override
+		protected void create() {
+			$("export");
+			for (int i = 0; i < 10000; i++) {
+				$("row", "id", i, "ü", $);
+			}
+			$();
+		}
+	}
+
+	@Test
+	public void slidingWindow() throws Exception {
+		Path path = Files.createTempFile("hyperml", ".xml");
+		try {
+			Export export = new Export();
+			try (MappedOutput out = new MappedOutput(path, 4096)) {
+				export.build(new Utf8Sink(out, 1000));
+				assertThat(out.size()).isGreaterThan(4096 * 10);
+			}
+			assertThat(new String(Files.readAllBytes(path), UTF_8)).isEqualTo(export.toString());
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void buildPath() throws Exception {
+		Path path = Files.createTempFile("hyperml", ".xml");
+		try {
+			Files.write(path, new byte[100_000]);
+			Export export = new Export();
+			export.build(path);
+			assertThat(new String(Files.readAllBytes(path), UTF_8)).isEqualTo(export.toString());
+
+			new Xml().build(path);
+			assertThat(Files.size(path)).isZero();
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	@Test
+	public void closeReleasesWindow() throws Exception {
+		Path path = Files.createTempFile("hyperml", ".xml");
+		try {
+			MappedOutput out = new MappedOutput(path, 4096);
+			out.write("<a/>".getBytes(UTF_8));
+			out.close();
+			assertThat(out.size()).isEqualTo(4);
+			assertThat(Files.size(path)).isEqualTo(4);
+			try {
+				out.write(1);
+				fail("exception expected");
+			} catch (ClosedChannelException e) {
+				// the window is gone with the channel
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+}
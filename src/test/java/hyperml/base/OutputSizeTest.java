@@ -0,0 +1,82 @@
+package hyperml.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import hyperml.Html;
+
+public class OutputSizeTest {
+
+	static class Page extends Html {
+		@Override
+		protected void create() {
+			div();
+			for (int i = 0; i < 100; i++) {
+				span("item ", $);
+			}
+			$();
+		}
+	}
+
+	@Test
+	public void percentile() throws Exception {
+		OutputSize size = new OutputSize();
+		assertThat(size.expected()).isEqualTo(OutputSize.INITIAL);
+
+		size.record(1000);
+		assertThat(size.expected()).isEqualTo(1000);
+
+		for (int i = 1; i <= 20; i++) {
+			size.record(i * 100);
+		}
+		// last 16: 500..2000
+		assertThat(size.expected()).isEqualTo(1800);
+	}
+
+	@Test
+	public void presizesToString() throws Exception {
+		Page page = new Page();
+		String html = page.toString();
+		assertThat(OutputSize.chars(Page.class)
+				.expected()).isEqualTo(html.length());
+	}
+
+	static class UmlautPage extends Html {
+		@Override
+		protected void create() {
+			p("üüüü", $);
+		}
+	}
+
+	@Test
+	public void charsAndBytesApart() throws Exception {
+		UmlautPage page = new UmlautPage();
+		String html = page.toString();
+		byte[] bytes = page.toBytes();
+		page.toString();
+
+		assertThat(bytes.length).isGreaterThan(html.length());
+		assertThat(OutputSize.chars(UmlautPage.class)
+				.expected()).isEqualTo(html.length());
+		assertThat(OutputSize.bytes(UmlautPage.class)
+				.expected()).isEqualTo(bytes.length);
+	}
+
+	@Test
+	public void appendTo() throws Exception {
+		StringBuilder sb = new StringBuilder("<!DOCTYPE html>");
+		new Page().appendTo(sb);
+		assertThat(sb.toString()).isEqualTo("<!DOCTYPE html>" + new Page().toString());
+
+		StringBuilder appendable = new StringBuilder();
+		new Page().appendTo((Appendable) appendable);
+		assertThat(appendable.toString()).isEqualTo(new Page().toString());
+
+		StringBuilder fluent = new StringBuilder("x");
+		Html.of()
+				.p("hello", Html.$)
+				.appendTo(fluent);
+		assertThat(fluent.toString()).isEqualTo("x<p>hello</p>");
+	}
+}
@@ -0,0 +1,129 @@
+package hyperml.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import hyperml.Html;
+
+public class TemplateTest {
+
+	static class Page extends Html {
+		final String title;
+		final int rows;
+
+		Page(String title, int rows) {
+			this.title = title;
+			this.rows = rows;
+		}
+
+		@Override
+		protected boolean compiled() {
+			return true;
+		}
+
+		@Override
+		protected void create() {
+			html();
+			{
+				head();
+				{
+					title(title, $);
+				}
+				$();
+				body(classs, "main");
+				{
+					h1("Hello & welcome, " + title, $);
+					for (int i = 0; i < rows; i++) {
+						div(id, "row" + i, "content", $);
+					}
+				}
+				$();
+			}
+			$();
+		}
+
+		String expected() {
+			StringBuilder sb = new StringBuilder();
+			sb.append("<html><head><title>")
+					.append(Util.escapeHtmlXml(title))
+					.append("</title></head><body class=\"main\"><h1>Hello &amp; welcome, ")
+					.append(Util.escapeHtmlXml(title))
+					.append("</h1>");
+			for (int i = 0; i < rows; i++) {
+				sb.append("<div id=\"row")
+						.append(i)
+						.append("\">content</div>");
+			}
+			return sb.append("</body></html>")
+					.toString();
+		}
+	}
+
+	static class StablePage extends Page {
+		StablePage(String title) {
+			super(title, 2);
+		}
+	}
+
+	static class VaryingPage extends Page {
+		VaryingPage(String title, int rows) {
+			super(title, rows);
+		}
+	}
+
+	@Test
+	public void compilesAfterTwoRenders() throws Exception {
+		Template template = Template.of(StablePage.class);
+
+		for (String title : new String[] { "a", "b", "<c>", "d", "€" }) {
+			StablePage page = new StablePage(title);
+			assertThat(page.toString()).isEqualTo(page.expected());
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			page.build(out);
+			assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo(page.expected());
+		}
+
+		assertThat(template.isCompiled()).isTrue();
+	}
+
+	@Test
+	public void fallsBackWhenStructureVaries() throws Exception {
+		Template template = Template.of(VaryingPage.class);
+		for (int i = 0; i < 40; i++) {
+			VaryingPage page = new VaryingPage("t" + i, i < 2 ? 1 : i % 3);
+			assertThat(page.toString()).isEqualTo(page.expected());
+		}
+		assertThat(template.isDisabled()).isTrue();
+	}
+
+	@Test
+	public void concurrentRenders() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				String title = "title" + (i % 7);
+				results.add(executor.submit(() -> {
+					StablePage page = new StablePage(title);
+					return page.toString()
+							.equals(page.expected());
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get()).isTrue();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package hyperml.base;
+
+import static hyperml.base.BaseMl.$;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.Test;
+
+import hyperml.Xml;
+
+public class Utf8SinkTest {
+
+	private static byte[] encode(int bufferSize, String... parts) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Utf8Sink w = new Utf8Sink(out, bufferSize);
+		for (String part : parts) {
+			w.write(part);
+		}
+		w.flush();
+		return out.toByteArray();
+	}
+
+	@Test
+	public void ascii() throws Exception {
+		assertThat(encode(16, "hello", " ", "world")).isEqualTo("hello world".getBytes(UTF_8));
+	}
+
+	@Test
+	public void multiByte() throws Exception {
+		String s = "äöü €uro 😀 end";
+		assertThat(encode(16, s)).isEqualTo(s.getBytes(UTF_8));
+	}
+
+	@Test
+	public void surrogateSplitAcrossWrites() throws Exception {
+		assertThat(encode(16, "a\uD83D", "\uDE00b")).isEqualTo("a😀b".getBytes(UTF_8));
+	}
+
+	@Test
+	public void malformedSurrogates() throws Exception {
+		assertThat(encode(16, "a\uDE00b\uD83Dc")).isEqualTo("a?b?c".getBytes(UTF_8));
+	}
+
+	@Test
+	public void trailingHighSurrogate() throws Exception {
+		assertThat(encode(16, "a\uD83D")).isEqualTo("a?".getBytes(UTF_8));
+		assertThat(Xml.of()
+				.text("a\uD83D")
+				.toBytes()).isEqualTo("a?".getBytes(UTF_8));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new Xml() {
+			@Override
+			protected void create() {
+				$("x", "a\uD83D", $);
+				text("b\uD83D");
+			}
+		}.build(out);
+		assertThat(out.toByteArray()).isEqualTo("<x>a?</x>b?".getBytes(UTF_8));
+	}
+
+	@Test
+	public void largerThanBuffer() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) {
+			sb.append(i % 7 == 0 ? 'ß' : (char) ('a' + i % 26));
+		}
+		String s = sb.toString();
+		assertThat(encode(16, s)).isEqualTo(s.getBytes(UTF_8));
+	}
+
+	@Test
+	public void markupCopiedAsBytes() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Utf8Sink w = new Utf8Sink(out, 16);
+		w.write("ä");
+		w.write(Markup.of("<äöü-element-name-longer-than-the-buffer"));
+		w.write(Markup.of("€"));
+		w.flush();
+		assertThat(out.toByteArray()).isEqualTo("ä<äöü-element-name-longer-than-the-buffer€".getBytes(UTF_8));
+	}
+
+	@Test
+	public void xmlToOutputStream() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Xml.to(out)
+				.$("x", "a", "€", "grüß", $);
+		assertThat(out.toByteArray()).isEqualTo("<x a=\"€\">grüß</x>".getBytes(UTF_8));
+	}
+}
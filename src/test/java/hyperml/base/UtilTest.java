@@ -1,5 +1,6 @@
 package hyperml.base;
 
+import static hyperml.base.Util.escapeHtmlXml;
 import static hyperml.base.Util.flatten;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +25,43 @@ public class UtilTest {
 		assertThat(flatten("a", new int[] { 1 })).isEqualTo(new Object[] { "a", 1 });
 	}
 
+	@Test
+	public void flattenPrimitiveArrays() throws Exception {
+		assertThat(flatten(new long[] { 1 }, new double[] { 2.5 }, new boolean[] { true }, new char[] { 'c' }, new byte[] { 3 }))
+				.isEqualTo(new Object[] { 1L, 2.5, true, 'c', (byte) 3 });
+	}
+
+	@Test
+	public void primitivesUnboxed() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		Util.visitAll(new Object[] { new int[] { 1 }, new long[] { 2 }, new double[] { 2.5 }, new short[] { 4 } }, new Util.ParamVisitor() {
+			@Override
+			public void param(Object item) {
+				sb.append(" object:")
+						.append(item);
+			}
+
+			@Override
+			public void param(int item) {
+				sb.append(" int:")
+						.append(item);
+			}
+
+			@Override
+			public void param(long item) {
+				sb.append(" long:")
+						.append(item);
+			}
+
+			@Override
+			public void param(double item) {
+				sb.append(" double:")
+						.append(item);
+			}
+		});
+		assertThat(sb.toString()).isEqualTo(" int:1 long:2 double:2.5 object:4");
+	}
+
 	@Test
 	public void itemIsIterable() throws Exception {
 		assertThat(flatten("a", asList(1))).isEqualTo(new Object[] { "a", 1 });
@@ -53,4 +91,21 @@ public class UtilTest {
 		map.put("1", true);
 		assertThat(flatten("a", Stream.of(1, asList(4, Pair.of("color", "red")), map), "b")).isEqualTo(new Object[] { "a", 1, 4, "color", "red", "0", false, "1", true, "b" });
 	}
+
+	@Test
+	public void escape() throws Exception {
+		assertThat(escapeHtmlXml("plain äöü")).isEqualTo("plain äöü");
+		assertThat(escapeHtmlXml("<a href=\"x\">&</a>")).isEqualTo("&lt;a href=&quot;x&quot;&gt;&amp;&lt;/a&gt;");
+	}
+
+	@Test
+	public void escapeToSink() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		MarkupSink sink = MarkupSink.to(sb);
+		escapeHtmlXml("plain", sink);
+		escapeHtmlXml("<<a & b>>", sink);
+		escapeHtmlXml(new StringBuilder("\"x\""), sink);
+		sink.flush();
+		assertThat(sb.toString()).isEqualTo("plain&lt;&lt;a &amp; b&gt;&gt;&quot;x&quot;");
+	}
 }